@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# 기동 시간 측정: 프로세스 시작 → 첫 요청 성공(time-to-first-request)까지.
+#   ./gradlew bootWar -Paot cdsArchive && scripts/startup-benchmark.sh [반복 횟수]
+# 모드별로 N 번 띄워 중앙값/최댓값 출력. MySQL(application.yml 의 datasource)과 migrate 로 적용된 스키마가 있어야 함.
+# 첫 요청은 DB 까지 타는 GET /api/posts/categories (health 만 보면 JPA 지연 초기화가 빠져 보임)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+URL="http://localhost:${PORT}/api/posts/categories"
+WAR=build/libs/backend-0.0.1-SNAPSHOT.war
+CDS_DIR=build/cds
+JAVA=${JAVA:-java}
+LOG_DIR=$(pwd)/build
+
+now_ms() { date +%s%3N; }
+
+# $1: 모드 이름, 나머지: java 인자
+measure() {
+  local name=$1; shift
+  local times=()
+  for ((i = 1; i <= RUNS; i++)); do
+    local t0 pid t
+    t0=$(now_ms)
+    "$JAVA" "$@" --server.port="$PORT" > "$LOG_DIR/startup-${name}.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "[$name] 기동 실패 ($LOG_DIR/startup-${name}.log)" >&2
+        return 1
+      fi
+      sleep 0.02
+    done
+    t=$(( $(now_ms) - t0 ))
+    times+=("$t")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+  local sorted
+  sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+  printf '%-12s median %6d ms   max %6d ms   (%s)\n' "$name" \
+    "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+    "$(echo "$sorted" | tail -1)" \
+    "$(echo "${times[*]}")"
+}
+
+[[ -f $WAR ]] || { echo "$WAR 없음: ./gradlew bootWar 먼저" >&2; exit 1; }
+mkdir -p "$LOG_DIR"
+
+measure default -jar "$WAR"
+measure fast -jar "$WAR" --spring.profiles.active=fast
+
+if unzip -l "$WAR" | grep -q '__ApplicationContextInitializer'; then
+  measure fast-aot -Dspring.aot.enabled=true -jar "$WAR" --spring.profiles.active=fast
+  AOT=(-Dspring.aot.enabled=true)
+else
+  echo "(AOT 클래스 없음: ./gradlew bootWar -Paot 로 빌드하면 fast-aot 도 측정)"
+  AOT=()
+fi
+
+if [[ -f $CDS_DIR/application.jsa ]]; then
+  # 아카이브가 만들어진 경로 그대로 실행해야 CDS 가 적용됨
+  (cd "$CDS_DIR" && measure fast-cds -XX:SharedArchiveFile=application.jsa "${AOT[@]}" \
+      -jar "$(basename "$WAR")" --spring.profiles.active=fast)
+else
+  echo "(CDS 아카이브 없음: ./gradlew cdsArchive 로 만들면 fast-cds 도 측정)"
+fi
@@ -19,6 +19,7 @@ public class CorsConfig {
                                 "http://localhost:3000")
                         .allowedMethods("GET","POST","PUT","DELETE","OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("X-Client-Id")   // 서버가 발급한 클라이언트 id (ClientIdentity)
                         .allowCredentials(false)
                         .maxAge(3600);
             }
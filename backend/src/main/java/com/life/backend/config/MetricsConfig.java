@@ -0,0 +1,80 @@
+package com.life.backend.config;
+
+import com.life.backend.metrics.QueryCounter;
+import com.life.backend.metrics.RequestQueryMetricsInterceptor;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final Set<String> SORTS = Set.of("latest", "best", "trending");
+
+    private final MeterRegistry registry;
+
+    // 요청당 SQL/행 수 집계용 (Hibernate 세션팩토리 단위로 한 개 인스턴스 공유)
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        QueryCounter counter = new QueryCounter();
+        return props -> {
+            props.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            props.put(AvailableSettings.INTERCEPTOR, counter);
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestQueryMetricsInterceptor(this.registry))
+                .addPathPatterns("/api/**");
+    }
+
+    // http.server.requests 에 sort 태그 추가 (latest|best|trending|none)
+    @Bean
+    public DefaultServerRequestObservationConvention sortTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                String sort = context.getCarrier().getParameter("sort");
+                sort = sort == null ? "none" : sort.toLowerCase();
+                if (!SORTS.contains(sort)) sort = "other";
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of("sort", sort));
+            }
+        };
+    }
+
+    // STOMP 채널 큐 적체량 (chat.channel.queue{channel=inbound|outbound})
+    // virtual thread 모드에서는 채널 executor 가 스레드 풀이 아니라(큐 없음) 등록하지 않음
+    @Bean
+    public MeterBinder stompChannelMetrics(
+            @Qualifier("clientInboundChannelExecutor") Executor inbound,
+            @Qualifier("clientOutboundChannelExecutor") Executor outbound) {
+        return r -> {
+            bindQueue(r, inbound, "inbound");
+            bindQueue(r, outbound, "outbound");
+        };
+    }
+
+    private static void bindQueue(MeterRegistry r, Executor executor, String channel) {
+        if (!(executor instanceof ThreadPoolTaskExecutor pool)) return;
+        Gauge.builder("chat.channel.queue", pool, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", channel).register(r);
+    }
+}
@@ -0,0 +1,47 @@
+package com.life.backend.config;
+
+import com.life.backend.web.ClientKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 같은 클라이언트의 읽기를 일정 시간 primary 로 고정 (read-your-writes).
+ * 복제 지연 때문에 방금 쓴 글/댓글이 replica 에서 안 보이는 문제를 막는다.
+ * 클라이언트 식별은 remoteAddr (신뢰 프록시의 X-Forwarded-For 는 RemoteIpValve 가 반영, ClientKeys 참고).
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(@Value("${app.datasource.routing.sticky-window-seconds:5}") long windowSeconds) {
+        this.windowMillis = windowSeconds * 1000;
+    }
+
+    public void markWrite() {
+        String key = clientKey();
+        if (key == null) return;
+        long now = System.currentTimeMillis();
+        stickyUntil.put(key, now + windowMillis);
+        if (stickyUntil.size() > PRUNE_THRESHOLD) stickyUntil.values().removeIf(until -> until < now);
+    }
+
+    public boolean isSticky() {
+        String key = clientKey();
+        if (key == null) return false;
+        Long until = stickyUntil.get(key);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private String clientKey() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs)) return null;
+        return ClientKeys.ip(attrs.getRequest());
+    }
+}
@@ -0,0 +1,107 @@
+package com.life.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * app.datasource.routing.enabled=true 일 때만 활성화.
+ *
+ * app:
+ *   datasource:
+ *     routing:
+ *       enabled: true
+ *       strategy: LEAST_LOADED
+ *       replicas:
+ *         - url: jdbc:mysql://replica1:3306/life?...
+ *           username: ro
+ *           password: ...
+ *           connection-timeout-ms: 2000
+ *
+ * primary 풀 설정은 기본 데이터소스와 같이 spring.datasource.hikari.* 에서.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig implements DisposableBean {
+
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+    // 지연 확인 전용 스레드: 죽은 replica 연결 대기(connection-timeout-ms)가 공용 @Scheduled 스레드를 막지 않게
+    private final ScheduledExecutorService lagProbe = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "replica-lag-probe");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Boot 의 DataSourceConfiguration.Hikari 와 같은 방식: spring.datasource.hikari.* (maximum-pool-size 등) 바인딩
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryProps, MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryProps.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingProperties props,
+                                 DataSourceProperties primaryProps,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < props.getReplicas().size(); i++) {
+            var r = props.getReplicas().get(i);
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName("replica-" + i);
+            ds.setJdbcUrl(r.getUrl());
+            ds.setUsername(r.getUsername());
+            ds.setPassword(r.getPassword());
+            ds.setMaximumPoolSize(r.getMaximumPoolSize());
+            ds.setConnectionTimeout(r.getConnectionTimeoutMs());   // 죽은 replica 는 빨리 포기 (기본 30초)
+            ds.setReadOnly(true);
+            if (primaryProps.getDriverClassName() != null) ds.setDriverClassName(primaryProps.getDriverClassName());
+            ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(ds);
+            replicaPools.add(ds);
+        }
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, props.getStrategy(), readYourWrites);
+
+        long interval = props.getCheckIntervalSeconds();
+        lagProbe.scheduleWithFixedDelay(() -> {
+            try {
+                routing.checkLag(props.getLagQuery(), props.getMaxLagSeconds());
+            } catch (RuntimeException e) {
+                // 예외가 빠져나가면 이후 실행이 멈추므로 여기서 끊음 (다음 주기에 다시 확인)
+                log.warn("replica lag check failed", e);
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        lagProbe.shutdownNow();
+        replicaPools.forEach(HikariDataSource::close);   // primary 는 빈이라 컨테이너가 닫음
+    }
+}
@@ -0,0 +1,120 @@
+package com.life.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 로, 나머지는 primary 로.
+ *
+ * - replica 선택: ROUND_ROBIN 또는 LEAST_LOADED(Hikari 활성 커넥션 수 최소)
+ * - {@link #checkLag} 가 주기적으로 지연을 확인해 maxLag 초과/장애 replica 는 제외
+ * - {@link ReadYourWrites} 로 방금 쓴 클라이언트는 primary 고정
+ *
+ * 트랜잭션 시작 시점엔 readOnly 플래그가 아직 안 걸려 있으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Strategy { ROUND_ROBIN, LEAST_LOADED }
+
+    static final String PRIMARY = "primary";
+
+    private record Replica(String key, DataSource dataSource) {}
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Set<String> healthy = ConcurrentHashMap.newKeySet();
+    private final Strategy strategy;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    Strategy strategy, ReadYourWrites readYourWrites) {
+        this.strategy = strategy;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + i;
+            replicas.add(new Replica(key, replicaDataSources.get(i)));
+            targets.put(key, replicaDataSources.get(i));
+            healthy.add(key);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return PRIMARY;
+        if (readYourWrites.isSticky()) return PRIMARY;
+        Replica r = pick();
+        return r != null ? r.key() : PRIMARY;
+    }
+
+    private Replica pick() {
+        List<Replica> candidates = replicas.stream().filter(r -> healthy.contains(r.key())).toList();
+        if (candidates.isEmpty()) return null;
+        if (strategy == Strategy.LEAST_LOADED) {
+            return candidates.stream().min(Comparator.comparingInt(r -> activeConnections(r.dataSource()))).orElse(null);
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    private int activeConnections(DataSource ds) {
+        if (ds instanceof HikariDataSource h) {
+            HikariPoolMXBean pool = h.getHikariPoolMXBean();
+            if (pool != null) return pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+    /** 각 replica 의 지연(초)을 확인해 사용 가능 목록 갱신. lagQuery 가 비어 있으면 연결만 확인. */
+    public void checkLag(String lagQuery, long maxLagSeconds) {
+        for (Replica r : replicas) {
+            boolean ok;
+            try (Connection con = r.dataSource().getConnection()) {
+                if (lagQuery == null || lagQuery.isBlank()) {
+                    ok = con.isValid(2);
+                } else {
+                    Long lag = queryLag(con, lagQuery);
+                    ok = lag != null && lag <= maxLagSeconds;
+                }
+            } catch (SQLException e) {
+                ok = false;
+            }
+            boolean changed = ok ? healthy.add(r.key()) : healthy.remove(r.key());
+            if (changed) log.warn("replica {} is now {}", r.key(), ok ? "in service" : "out of service (lag/failure)");
+        }
+    }
+
+    // SHOW REPLICA STATUS → Seconds_Behind_Source (구버전은 Seconds_Behind_Master). 복제 중단이면 NULL
+    private Long queryLag(Connection con, String lagQuery) throws SQLException {
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+            if (!rs.next()) return null;
+            for (String col : List.of("Seconds_Behind_Source", "Seconds_Behind_Master")) {
+                try {
+                    long v = rs.getLong(col);
+                    return rs.wasNull() ? null : v;
+                } catch (SQLException ignored) {
+                    // 다음 컬럼명 시도
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.life.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    private ReplicaRoutingDataSource.Strategy strategy = ReplicaRoutingDataSource.Strategy.ROUND_ROBIN;
+
+    // 이 값(초)보다 뒤처진 replica 는 제외 → 남은 replica 가 없으면 primary
+    private long maxLagSeconds = 5;
+
+    // 비우면 지연 대신 연결 가능 여부만 확인 (로컬 H2 등)
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private long checkIntervalSeconds = 5;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        // 연결 대기 상한 (Hikari 기본 30초면 죽은 replica 하나가 지연 확인/읽기를 그만큼 붙잡음)
+        private long connectionTimeoutMs = 2000;
+    }
+}
@@ -0,0 +1,35 @@
+package com.life.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스키마 마이그레이션 전용 실행 (배포 시 앱 인스턴스를 굴리기 전에 한 번).
+ *   java -jar app.war --spring.profiles.active=migrate
+ * Flyway 는 컨텍스트 기동 중 JPA 보다 먼저 db/migration 을 적용하고, 이어서 ddl-auto: validate 가 엔티티와 대조한다.
+ * 여기까지 왔으면 성공이므로 바로 종료 (적용/검증 실패는 기동 예외로 끝나 exit code 1).
+ */
+@Slf4j
+@Component
+@Profile("migrate")
+@RequiredArgsConstructor
+public class SchemaMigrationRunner implements ApplicationRunner {
+
+    private final Flyway flyway;
+    private final ConfigurableApplicationContext ctx;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MigrationInfo current = flyway.info().current();
+        log.info("schema migrated: version {}", current != null ? current.getVersion() : "none");
+        System.exit(SpringApplication.exit(ctx, () -> 0));
+    }
+}
@@ -1,29 +1,79 @@
 package com.life.backend.config;
 
+import com.life.backend.web.StompFrameBatching;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @EnableWebSocketMessageBroker
 @Configuration
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 인바운드는 메시지마다 DB 저장 → 커넥션 풀 이상으로 동시에 돌려봐야 대기만 늘어남
+    @Value("${app.virtual-threads.db-concurrency-limit:10}")
+    private int dbConcurrencyLimit;
+
+    private static final String[] ALLOWED_ORIGINS = {
+            "https://life.binaryworld.kr",
+            "http://life.binaryworld.kr",
+            "http://localhost:3000"
+    };
+
+    private final StompFrameBatching frameBatching;
+
+    public WebSocketConfig(StompFrameBatching frameBatching) {
+        this.frameBatching = frameBatching;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 네이티브 WebSocket (프론트 기본). permessage-deflate 는 클라이언트가 요청하면 Tomcat 이 협상
+        registry.addEndpoint("/ws-stomp")
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS);
+
         registry.addEndpoint("/ws-chat")
-                .setAllowedOriginPatterns(
-                        "https://life.binaryworld.kr",
-                        "http://life.binaryworld.kr",
-                        "http://localhost:3000"
-                )
-                .withSockJS(); // 프론트에서 SockJS 사용
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS)
+                .withSockJS(); // 네이티브 연결이 안 되는 환경용 fallback
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 몇 ms 안에 나가는 프레임들을 세션별로 한 메시지로 묶음 (팬아웃이 클 때 syscall/프레임 오버헤드 감소)
+        registration.addDecoratorFactory(frameBatching);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app"); // 클라→서버
         registry.enableSimpleBroker("/topic");              // 서버→클라
+        // 아웃바운드 채널이 스레드 풀/가상 스레드라 같은 세션 메시지끼리 순서가 뒤바뀔 수 있음
+        // → 세션별로 발행 순서대로 전달 (배칭 세션이 도착 순서로 이어 붙이므로 여기서 순서가 정해져야 함)
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) registration.executor(virtualExecutor("stomp-in-", dbConcurrencyLimit));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) registration.executor(virtualExecutor("stomp-out-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY));
+    }
+
+    private SimpleAsyncTaskExecutor virtualExecutor(String prefix, int concurrencyLimit) {
+        var executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.life.backend.controller;
 
 import com.life.backend.dto.ChatMessageDTO;
+import com.life.backend.dto.PresenceDTO;
+import com.life.backend.service.ChatPresenceService;
 import com.life.backend.service.ChatService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @RestController                 // ★ REST + STOMP 둘 다 가능
@@ -23,6 +27,12 @@ import java.util.UUID;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatPresenceService presence;
+    private final MeterRegistry meterRegistry;
+
+    // 메시지 로그 샘플링: N건당 1건만 info (나머지는 debug)
+    private static final long LOG_SAMPLE_EVERY = 100;
+    private final AtomicLong inboundSeq = new AtomicLong();
 
     // ====== STOMP (소켓) ======
     // publish:   /app/chat/send
@@ -31,10 +41,14 @@ public class ChatController {
     @SendTo("/topic/public")
     public ChatMessageDTO onSocketMessage(ChatMessageDTO msg) {
         if (msg.getId() == null) msg.setId(UUID.randomUUID().toString());
-        log.info("WS message in: {}", msg);
+        meterRegistry.counter("chat.messages", "direction", "inbound").increment();
+        long seq = inboundSeq.incrementAndGet();
+        if (seq % LOG_SAMPLE_EVERY == 1) log.info("WS message in (#{}, sampled 1/{}): {}", seq, LOG_SAMPLE_EVERY, msg);
+        else if (log.isDebugEnabled()) log.debug("WS message in: {}", msg);
 
         // DB 저장 후 저장값을 브로드캐스트 (createdAt 확정)
         var saved = chatService.saveIncoming(msg);
+        meterRegistry.counter("chat.messages", "direction", "outbound").increment();
         return ChatService.toDTO(saved);
     }
 
@@ -53,4 +67,10 @@ public class ChatController {
 
         return chatService.history(b, limit).stream().map(ChatService::toDTO).toList();
     }
-}
\ No newline at end of file
+
+    // 접속자 현황 (최초 진입용, 이후는 /topic/presence 구독)
+    @GetMapping("/api/chat/presence")
+    public PresenceDTO presence() {
+        return presence.current();
+    }
+}
@@ -0,0 +1,62 @@
+package com.life.backend.controller;
+
+import com.life.backend.service.PostExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final PostExportService exportService;
+
+    // 사이트맵 인덱스 (글 5만 개당 sitemap 1개)
+    @GetMapping(value = "/api/sitemap/index.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<Resource> sitemapIndex() throws Exception {
+        return xml(new FileSystemResource(exportService.sitemapIndex()));
+    }
+
+    // GET /api/sitemap/posts-0.xml
+    @GetMapping(value = "/api/sitemap/posts-{bucket}.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<Resource> sitemapPart(@PathVariable int bucket) throws Exception {
+        var p = exportService.sitemapPart(bucket);
+        if (p == null) return ResponseEntity.notFound().build();
+        return xml(new FileSystemResource(p));
+    }
+
+    // 전체 글 NDJSON: 캐시된 구간 파일을 순서대로 이어 붙임 (DB 커넥션 안 씀)
+    @GetMapping(value = "/api/posts/export.ndjson", produces = "application/x-ndjson")
+    public StreamingResponseBody exportNdjson() throws Exception {
+        List<Path> parts = exportService.exportParts();
+        return out -> {
+            for (Path p : parts) {
+                try {
+                    Files.copy(p, out);
+                } catch (NoSuchFileException ignored) {
+                    // 목록을 받은 뒤 갱신으로 비어서 지워진 구간
+                }
+            }
+        };
+    }
+
+    private ResponseEntity<Resource> xml(Resource r) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .contentType(MediaType.APPLICATION_XML)
+                .body(r);
+    }
+}
@@ -3,23 +3,50 @@ package com.life.backend.controller;
 import com.life.backend.dto.CategoryDTO;
 import com.life.backend.dto.CommentDTO;
 import com.life.backend.dto.PostDTO;
+import com.life.backend.dto.SuggestDTO;
 import com.life.backend.repository.CategoryRepository;
+import com.life.backend.service.IdempotencyService;
+import com.life.backend.service.LikeLedger;
+import com.life.backend.service.PostContentCodec;
 import com.life.backend.service.PostService;
+import com.life.backend.service.RecentPostFeed;
+import com.life.backend.service.TitleSuggestIndex;
+import com.life.backend.service.UniqueViewCounter;
+import com.life.backend.service.UploadService;
+import com.life.backend.web.ClientIdentity;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
-@CrossOrigin(origins = {"http://localhost:3000", "https://life.binaryworld.kr", "http://life.binaryworld.kr"})
+@CrossOrigin(origins = {"http://localhost:3000", "https://life.binaryworld.kr", "http://life.binaryworld.kr"},
+        exposedHeaders = ClientIdentity.HEADER)
 public class PostController {
 
     private final PostService svc;
     private final CategoryRepository categoryRepo;
+    private final IdempotencyService idempotency;
+    private final RecentPostFeed feed;
+    private final TitleSuggestIndex suggestIndex;
+    private final LikeLedger likeLedger;
+    private final UniqueViewCounter uniqueViews;
+    private final ClientIdentity clientIdentity;
+    private final ObjectProvider<UploadService> uploads;   // @Lazy 빈: 첫 업로드 때 생성
 
     // 카테고리 목록
     @GetMapping("/categories")
@@ -32,27 +59,81 @@ public class PostController {
 
     // 단건
     @GetMapping("/{id}")
-    public PostDTO get(@PathVariable Long id) {
-        return svc.get(id);
+    public PostDTO get(@PathVariable Long id, HttpServletRequest req, HttpServletResponse res) {
+        var dto = svc.get(id);
+        uniqueViews.record(id, clientIdentity.fingerprint(req, res));   // 메모리 스케치만 갱신
+        return dto;
     }
 
-    // 목록
-    @GetMapping
-    public List<PostDTO> list(@RequestParam(required = false) String categoryCode,
-                              @RequestParam(required = false) String q,
-                              @RequestParam(defaultValue = "0") int page,
-                              @RequestParam(defaultValue = "12") int size,
-                              @RequestParam(defaultValue = "latest") String sort,   // ✅ 추가: latest|best|trending
-                              @RequestParam(required = false) String period,        // ✅ 예: 7d|14d|30d (best/trending에서 사용)
-                              @RequestParam(defaultValue = "12") int min            // ✅ 실시간 부족 시 백필 최소 개수
-    ) {
-        return svc.listAdvanced(categoryCode, q, page, size, sort, period, min);
+    // 본문 HTML 만. 압축 저장된 글은 Accept-Encoding: gzip 이면 저장된 바이트를 그대로 전송
+    @GetMapping(value = "/{id}/content", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> content(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var c = svc.content(id);
+        var res = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (c.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return res.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(c.gzip());
+        }
+        String html = c.gzip() != null ? PostContentCodec.gunzip(c.gzip()) : c.html();
+        return res.body(html.getBytes(StandardCharsets.UTF_8));
     }
 
-    // 생성
+    // 목록: 카드별로 미리 직렬화된 JSON 조각을 이어 붙여 바로 씀 (목록 전체를 다시 직렬화하지 않음)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void list(@RequestParam(required = false) String categoryCode,
+                     @RequestParam(required = false) String q,
+                     @RequestParam(defaultValue = "0") int page,
+                     @RequestParam(defaultValue = "12") int size,
+                     @RequestParam(defaultValue = "latest") String sort,   // ✅ 추가: latest|best|trending
+                     @RequestParam(required = false) String period,        // ✅ 예: 7d|14d|30d (best/trending에서 사용)
+                     @RequestParam(defaultValue = "12") int min,           // ✅ 실시간 부족 시 백필 최소 개수
+                     HttpServletResponse res
+    ) throws IOException {
+        List<byte[]> cards = svc.listAdvancedJson(categoryCode, q, page, size, sort, period, min);
+        int length = 2 + Math.max(cards.size() - 1, 0);
+        for (byte[] c : cards) length += c.length;
+
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setContentLength(length);
+        var out = res.getOutputStream();
+        out.write('[');
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) out.write(',');
+            out.write(cards.get(i));
+        }
+        out.write(']');
+    }
+
+    // 제목 자동완성 (메모리 인덱스, DB 조회 없음): GET /api/posts/suggest?q=ㅇㅅ&limit=10
+    @GetMapping("/suggest")
+    public List<SuggestDTO> suggest(@RequestParam(defaultValue = "") String q,
+                                    @RequestParam(defaultValue = "10") int limit) {
+        return suggestIndex.suggest(q, limit);
+    }
+
+    // 새 글 델타: 클라이언트가 가진 가장 새 글의 (createDate, id) 이후 카드만 (최신순)
+    // GET /api/posts/feed/since?categoryCode=&afterDate=yyyy-MM-dd HH:mm:ss&afterId=123&limit=50
+    @GetMapping("/feed/since")
+    public List<PostDTO> feedSince(@RequestParam(required = false) String categoryCode,
+                                   @RequestParam(required = false) String afterDate,
+                                   @RequestParam(required = false) Long afterId,
+                                   @RequestParam(defaultValue = "50") int limit) {
+        return feed.since(categoryCode, afterDate, afterId, limit);
+    }
+
+    // 생성 (같은 clientReqId 중복 요청은 첫 요청 결과를 공유)
     @PostMapping
     public PostDTO create(@RequestBody PostDTO in) {
-        return svc.create(in);
+        return idempotency.execute(in.getClientReqId(), () -> {
+            try {
+                return svc.create(in);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 clientReqId 로 먼저 저장 (트랜잭션은 이미 롤백됨) → 그 글을 돌려줌
+                return svc.findCreated(in.getClientReqId()).orElseThrow(() -> e);
+            }
+        });
     }
 
     // 수정
@@ -76,21 +157,39 @@ public class PostController {
         svc.verify(id, in.getPassword()); // 통과 시 200 OK, 실패 시 401
     }
 
-    // 좋아요 +1
+    // 좋아요 +1 (같은 클라이언트(서버가 서명한 X-Client-Id, 발급 한도를 넘으면 IP)의 중복은 DB 가기 전에 409)
     @PostMapping("/{id}/like")
-    public int like(@PathVariable Long id) {
-        return svc.like(id);
+    public int like(@PathVariable Long id, HttpServletRequest req, HttpServletResponse res) {
+        long fp = clientIdentity.fingerprint(req, res);
+        if (!likeLedger.add(id, fp)) throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 좋아요를 누른 글입니다.");
+        try {
+            return svc.like(id);
+        } catch (RuntimeException e) {
+            likeLedger.remove(id, fp);
+            throw e;
+        }
     }
 
-    // ✅ 좋아요 -1
+    // ✅ 좋아요 -1 (장부에 있는 좋아요만 취소 가능)
     @PostMapping("/{id}/unlike")
-    public int unlike(@PathVariable Long id) {
-        return svc.unlike(id);
+    public int unlike(@PathVariable Long id, HttpServletRequest req, HttpServletResponse res) {
+        long fp = clientIdentity.fingerprint(req, res);
+        if (!likeLedger.remove(id, fp)) throw new ResponseStatusException(HttpStatus.CONFLICT, "좋아요를 누르지 않은 글입니다.");
+        try {
+            return svc.unlike(id);
+        } catch (RuntimeException e) {
+            likeLedger.add(id, fp);
+            throw e;
+        }
     }
 
+    // 댓글 목록 (커서): ?afterDate=yyyy-MM-dd HH:mm:ss&afterId=123&size=50
     @GetMapping("/{id}/comments")
-    public List<CommentDTO> listComments(@PathVariable Long id) {
-        return svc.listComments(id);
+    public List<CommentDTO> listComments(@PathVariable Long id,
+                                         @RequestParam(required = false) String afterDate,
+                                         @RequestParam(required = false) Long afterId,
+                                         @RequestParam(defaultValue = "" + PostService.COMMENT_PAGE_SIZE) int size) {
+        return svc.listComments(id, afterDate, afterId, size);
     }
 
     @PostMapping("/{id}/comments")
@@ -116,7 +215,7 @@ public class PostController {
 
     // ===================== 업로드 =====================
     @PostMapping(value = "/uploads", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public PostService.UploadResult upload(@RequestParam("file") MultipartFile file) throws Exception {
-        return svc.upload(file);
+    public UploadService.UploadResult upload(@RequestParam("file") MultipartFile file) throws Exception {
+        return uploads.getObject().upload(file);
     }
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ public class CommentDTO {
     private String nickname;
     private String content;
     private String createDate;
+    // 다음 페이지 커서 (create_date 전체 정밀도 ISO). createDate 는 초 단위 표시용이라 커서로 쓰면 같은 초의 댓글이 다시 나옴
+    private String cursor;
     private String updateDate;
     private String updateYn;
     private String deleteYn;
@@ -16,6 +16,7 @@ public class PostDTO {
     private String createDate;
     private String updateDate;
     private Integer views;
+    private Integer uniqueViews;
     private Integer likes;
     private Integer commentCount;
     private String updateYn;
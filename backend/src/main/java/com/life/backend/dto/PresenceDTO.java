@@ -0,0 +1,8 @@
+package com.life.backend.dto;
+
+import java.util.List;
+
+// 채팅 접속자 현황: online = 접속 중인 사용자 수(senderId 기준), nicknames 는 앞쪽 일부만
+public record PresenceDTO(int online, int sessions, List<String> nicknames) {
+    public static final PresenceDTO EMPTY = new PresenceDTO(0, 0, List.of());
+}
@@ -0,0 +1,4 @@
+package com.life.backend.dto;
+
+// 제목 자동완성 항목
+public record SuggestDTO(Long id, String title, String categoryName) {}
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "comment", indexes = {
-        @Index(name="idx_post_date", columnList = "post_id, create_date")
+        @Index(name="idx_post_date", columnList = "post_id, create_date"),
+        @Index(name="idx_del_upd", columnList = "delete_yn, update_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name="uk_comment_import_key", columnNames = "import_key")
 })
 public class Comment {
 
@@ -33,6 +36,10 @@ public class Comment {
     @Column(nullable=false)
     private String content;
 
+    // 이관(PostImportService) 댓글만: 원본 파일+줄 번호로 만든 키 → 재개 시 같은 줄을 다시 넣어도 한 번만
+    @Column(name="import_key", length=36, insertable=false, updatable=false)
+    private String importKey;
+
     @Column(name="update_yn", nullable=false, columnDefinition = "char(1) default 'N'")
     private String updateYn = "N";
 
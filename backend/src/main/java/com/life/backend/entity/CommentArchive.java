@@ -0,0 +1,45 @@
+package com.life.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 보존기간이 지난 삭제 댓글 + 아카이브된 글의 댓글 (모더레이션 조회용)
+@Getter
+@Setter
+@Entity
+@Table(name = "comment_archive", indexes = {
+        @Index(name = "idx_ca_post_date", columnList = "post_id, create_date")
+})
+public class CommentArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false, length = 64)
+    private String nickname;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "update_yn", columnDefinition = "char(1)", nullable = false)
+    private String updateYn;
+
+    @Column(name = "delete_yn", columnDefinition = "char(1)", nullable = false)
+    private String deleteYn;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    @Column(name = "update_date", nullable = false)
+    private LocalDateTime updateDate;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_cat_date", columnList = "category_id,create_date"),
                 @Index(name = "idx_date",     columnList = "create_date"),
-                @Index(name = "idx_author",   columnList = "author_id")
+                @Index(name = "idx_author",   columnList = "author_id"),
+                @Index(name = "idx_del_upd",  columnList = "delete_yn,update_date")   // 아카이브 대상 탐색
         },
         uniqueConstraints = {
                 @UniqueConstraint(name="uk_post_client_req_id", columnNames = "client_req_id")
@@ -42,6 +43,19 @@ public class Post {
     @Column(name = "content", columnDefinition = "MEDIUMTEXT", nullable = false)
     private String content;
 
+    // 압축 저장 시: content 는 빈 문자열, 본문은 content_gz (content_codec 으로 형식 구분, null 이면 평문)
+    @Lob
+    @Column(name = "content_gz", columnDefinition = "MEDIUMBLOB")
+    private byte[] contentGz;
+
+    @Column(name = "content_codec", length = 16)
+    private String contentCodec;
+
+    // 압축 저장 시 본문 검색용 평문 (태그 제거). 평문 저장 행은 null 이고 content 로 검색
+    @Lob
+    @Column(name = "search_text", columnDefinition = "MEDIUMTEXT")
+    private String searchText;
+
     @Column(name="author_id", nullable=false, length=64)
     private String authorId;
 
@@ -54,6 +68,11 @@ public class Post {
     @Column(nullable=false)
     private int likes = 0;
 
+    // 순방문자 추정치 (UniqueViewCounter 체크포인트가 JDBC 로만 갱신, views 는 단순 조회 횟수)
+    // 엔티티 flush 가 읽어 둔 옛 값을 덮어쓰지 않게 insert/update 에서 제외
+    @Column(name="unique_views", nullable=false, insertable=false, updatable=false, columnDefinition = "int default 0")
+    private int uniqueViews = 0;
+
     @Column(name="post_password_hash", length=255)
     private String postPasswordHash;
 
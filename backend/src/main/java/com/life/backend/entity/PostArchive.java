@@ -0,0 +1,71 @@
+package com.life.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 보존기간이 지난 삭제 글 (모더레이션 조회용). 비밀번호 해시는 옮기지 않음
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "post_archive",
+        indexes = {
+                @Index(name = "idx_pa_archived", columnList = "archived_date"),
+                @Index(name = "idx_pa_author",   columnList = "author_nick")
+        }
+)
+public class PostArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "client_req_id", length = 36)
+    private String clientReqId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false, length = 120)
+    private String title;
+
+    @Lob
+    @Column(name = "content", columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String content;
+
+    @Lob
+    @Column(name = "content_gz", columnDefinition = "MEDIUMBLOB")
+    private byte[] contentGz;
+
+    @Column(name = "content_codec", length = 16)
+    private String contentCodec;
+
+    @Column(name = "author_id", nullable = false, length = 64)
+    private String authorId;
+
+    @Column(name = "author_nick", nullable = false, length = 64)
+    private String authorNick;
+
+    @Column(nullable = false)
+    private int views;
+
+    @Column(nullable = false)
+    private int likes;
+
+    @Column(name = "update_yn", columnDefinition = "char(1)", nullable = false)
+    private String updateYn;
+
+    @Column(name = "delete_yn", columnDefinition = "char(1)", nullable = false)
+    private String deleteYn;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    @Column(name = "update_date", nullable = false)
+    private LocalDateTime updateDate;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
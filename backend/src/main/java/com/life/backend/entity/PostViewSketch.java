@@ -0,0 +1,25 @@
+package com.life.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 글별 순방문자 HyperLogLog 레지스터 (4KB 고정). 방문 1건당 행을 쌓지 않음
+@Getter
+@Setter
+@Entity
+@Table(name = "post_view_sketch")
+public class PostViewSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "registers", columnDefinition = "BLOB", nullable = false)
+    private byte[] registers;
+
+    @Column(name = "update_date", nullable = false)
+    private LocalDateTime updateDate;
+}
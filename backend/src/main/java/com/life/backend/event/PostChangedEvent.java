@@ -0,0 +1,16 @@
+package com.life.backend.event;
+
+/**
+ * 글 상태 변경 알림. PostService 가 발행하고, 리스너는 커밋 후(@TransactionalEventListener) 처리한다.
+ */
+public record PostChangedEvent(Long postId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        VIEWED,
+        LIKED,
+        COMMENTED
+    }
+}
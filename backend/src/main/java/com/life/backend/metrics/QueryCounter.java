@@ -0,0 +1,37 @@
+package com.life.backend.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * 요청(스레드) 단위로 실행된 SQL 수와 로드된 엔티티(행) 수를 센다.
+ * Hibernate 에 StatementInspector / Interceptor 로 등록되고,
+ * {@link RequestQueryMetricsInterceptor} 가 요청 시작/종료 시 리셋·기록한다.
+ */
+public class QueryCounter implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[1]++;
+        return false;
+    }
+
+    public static void reset() {
+        long[] c = COUNTS.get();
+        c[0] = 0;
+        c[1] = 0;
+    }
+
+    public static long statements() { return COUNTS.get()[0]; }
+
+    public static long rows() { return COUNTS.get()[1]; }
+}
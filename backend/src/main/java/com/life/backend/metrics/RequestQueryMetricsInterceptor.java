@@ -0,0 +1,43 @@
+package com.life.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 SQL 실행 수(db.statements)와 로드 행 수(db.rows)를 엔드포인트(uri 패턴)별로 기록.
+ */
+@RequiredArgsConstructor
+public class RequestQueryMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
+        QueryCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest req, HttpServletResponse res, Object handler, Exception ex) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("db.statements")
+                .description("SQL statements per request")
+                .tag("method", req.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(QueryCounter.statements());
+        DistributionSummary.builder("db.rows")
+                .description("Entities loaded per request")
+                .tag("method", req.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(QueryCounter.rows());
+    }
+}
@@ -0,0 +1,10 @@
+package com.life.backend.repository;
+
+import com.life.backend.entity.CommentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CommentArchiveRepository extends JpaRepository<CommentArchive, Long> {
+    List<CommentArchive> findByPostIdOrderByCreateDateAsc(Long postId);
+}
@@ -2,9 +2,12 @@ package com.life.backend.repository;
 
 import com.life.backend.entity.Comment;
 import com.life.backend.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,6 +19,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     """)
     List<Comment> findActiveByPost(Post post);
 
+    // 커서 페이지네이션: idx_post_date(post_id, create_date) 순서 그대로 읽음
+    @Query("""
+        select c from Comment c
+        where c.post.id = :postId and c.deleteYn = 'N'
+        order by c.createDate asc, c.id asc
+    """)
+    List<Comment> findActivePage(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+        select c from Comment c
+        where c.post.id = :postId and c.deleteYn = 'N'
+          and (c.createDate > :afterDate or (c.createDate = :afterDate and c.id > :afterId))
+        order by c.createDate asc, c.id asc
+    """)
+    List<Comment> findActivePageAfter(@Param("postId") Long postId,
+                                      @Param("afterDate") LocalDateTime afterDate,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
     @Query("""
         SELECT c.post.id, COUNT(c)
         FROM Comment c
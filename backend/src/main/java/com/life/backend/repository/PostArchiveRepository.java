@@ -0,0 +1,13 @@
+package com.life.backend.repository;
+
+import com.life.backend.entity.PostArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PostArchiveRepository extends JpaRepository<PostArchive, Long> {
+    List<PostArchive> findByAuthorNickOrderByCreateDateDesc(String authorNick, Pageable pageable);
+
+    List<PostArchive> findAllByOrderByArchivedDateDesc(Pageable pageable);
+}
@@ -5,8 +5,15 @@ import com.life.backend.entity.Post;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("""
@@ -16,7 +23,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            and (:cat is null or p.category = :cat)
            and (:q is null or
                 lower(p.title) like concat('%', lower(:q), '%')
-                 or p.content    like concat('%', :q, '%'))
+                 or p.content    like concat('%', :q, '%')
+                 or p.searchText like concat('%', :q, '%'))
          order by p.createDate desc
     """)
     List<Post> findList(@Param("cat") Category cat,
@@ -25,6 +33,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findByClientReqId(String clientReqId);
 
+    // 카운터만 (실시간 통계 push 용): [id, likes, views]
+    @Query("select p.id, p.likes, p.views from Post p where p.id in :ids")
+    List<Object[]> findCounters(@Param("ids") Collection<Long> ids);
+
     @Query("""
         select p from Post p
         where p.deleteYn = 'N'
@@ -36,6 +48,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                           @Param("q") String q,
                           Pageable pageable);
 
+    // 피드 델타: (createDate, id) 커서보다 새 글 (최신순)
+    @Query("""
+        select p from Post p
+        where p.deleteYn = 'N'
+          and (:cat is null or p.category = :cat)
+          and (p.createDate > :afterDate or (p.createDate = :afterDate and p.id > :afterId))
+        order by p.createDate desc, p.id desc
+    """)
+    List<Post> findNewerThan(@Param("cat") Category cat,
+                             @Param("afterDate") LocalDateTime afterDate,
+                             @Param("afterId") Long afterId,
+                             Pageable pageable);
+
     // 기간 내 후보(실시간/베스트용 – 기간 필터)
     @Query("""
         select p from Post p
@@ -49,4 +74,75 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                    @Param("q") String q,
                                    @Param("since") java.time.LocalDateTime since,
                                    Pageable pageable);
-}
\ No newline at end of file
+
+    // ===== 사이트맵/익스포트용 전진 전용 커서 =====
+    // MySQL 은 fetchSize=Integer.MIN_VALUE 일 때 행 단위 스트리밍 (결과 전체를 메모리에 올리지 않음)
+
+    interface Stamp {
+        Long getId();
+        LocalDateTime getUpdateDate();
+    }
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select p.id as id, p.updateDate as updateDate
+          from Post p
+         where p.deleteYn = 'N'
+           and p.id >= :fromId and p.id < :toId
+         order by p.id
+    """)
+    Stream<Stamp> streamStamps(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // id 구간(bucket)별 (글 수, 최종 수정일) → 바뀐 구간만 사이트맵 재생성
+    @Query(value = """
+        select id div :bucket as b, count(*) as cnt, max(update_date) as last_mod
+          from post
+         where delete_yn = 'N'
+         group by b
+         order by b
+    """, nativeQuery = true)
+    List<Object[]> bucketSignatures(@Param("bucket") long bucket);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select p from Post p join fetch p.category
+         where p.deleteYn = 'N'
+           and p.id >= :fromId and p.id < :toId
+         order by p.id
+    """)
+    Stream<Post> streamActive(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // ===== 제목 자동완성 인덱스용 =====
+
+    interface SuggestRow {
+        Long getId();
+        String getTitle();
+        String getCategoryName();
+        int getLikes();
+        int getViews();
+    }
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select p.id as id, p.title as title, c.name as categoryName, p.likes as likes, p.views as views
+          from Post p join p.category c
+         where p.deleteYn = 'N'
+    """)
+    Stream<SuggestRow> streamSuggestRows();
+
+    @Query("""
+        select p.id as id, p.title as title, c.name as categoryName, p.likes as likes, p.views as views
+          from Post p join p.category c
+         where p.id = :id and p.deleteYn = 'N'
+    """)
+    Optional<SuggestRow> findSuggestRow(@Param("id") Long id);
+}
@@ -0,0 +1,143 @@
+package com.life.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제(delete_yn='Y')된 지 retention-days 가 지난 글/댓글을 *_archive 테이블로 옮긴다.
+ * - batch-size 개씩, 배치마다 별도 트랜잭션 (락 보유 시간 최소화), 배치 사이 pause-ms 휴식
+ * - 글을 옮길 때는 그 글의 댓글 전체를 먼저 옮긴다 (comment.post_id FK)
+ * - 비밀번호 해시는 아카이브로 옮기지 않는다
+ * - 배치 사이 휴식 때문에 수 분 걸릴 수 있어 공용 스케줄러 스레드가 아닌 전용 스레드(BackgroundJob)에서 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private static final String ARCHIVE_COMMENTS_OF_POSTS = """
+        insert into comment_archive (id, post_id, nickname, content, update_yn, delete_yn,
+                                     create_date, update_date, archived_date)
+        select id, post_id, nickname, content, update_yn, delete_yn, create_date, update_date, now()
+          from comment where post_id in (:ids)
+    """;
+    private static final String ARCHIVE_COMMENTS = """
+        insert into comment_archive (id, post_id, nickname, content, update_yn, delete_yn,
+                                     create_date, update_date, archived_date)
+        select id, post_id, nickname, content, update_yn, delete_yn, create_date, update_date, now()
+          from comment where id in (:ids)
+    """;
+    private static final String ARCHIVE_POSTS = """
+        insert into post_archive (id, client_req_id, category_id, title, content, content_gz, content_codec,
+                                  author_id, author_nick, views, likes, update_yn, delete_yn,
+                                  create_date, update_date, archived_date)
+        select id, client_req_id, category_id, title, content, content_gz, content_codec,
+               author_id, author_nick, views, likes, update_yn, delete_yn,
+               create_date, update_date, now()
+          from post where id in (:ids)
+    """;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.archive.pause-ms:200}")
+    private long pauseMs;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (남은 건 다음 실행으로)
+    @Value("${app.archive.max-batches:500}")
+    private int maxBatches;
+
+    private final BackgroundJob job = new BackgroundJob("archive");
+
+    @Scheduled(cron = "${app.archive.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (enabled) job.trigger(this::archive);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.close();
+    }
+
+    void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int posts = 0, comments = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                int n = archivePostBatch(cutoff);
+                if (n == 0) break;
+                posts += n;
+                pause();
+            }
+            for (int i = 0; i < maxBatches; i++) {
+                int n = archiveCommentBatch(cutoff);
+                if (n == 0) break;
+                comments += n;
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (posts + comments > 0) log.info("archived {} posts, {} comments (deleted before {})", posts, comments, cutoff);
+    }
+
+    private int archivePostBatch(LocalDateTime cutoff) {
+        Integer n = tx.execute(status -> {
+            List<Long> ids = jdbc.queryForList(
+                    "select id from post where delete_yn = 'Y' and update_date < ? order by id limit ?",
+                    Long.class, cutoff, batchSize);
+            if (ids.isEmpty()) return 0;
+            var params = new MapSqlParameterSource("ids", ids);
+            int c = namedJdbc.update(ARCHIVE_COMMENTS_OF_POSTS, params);
+            namedJdbc.update("delete from comment where post_id in (:ids)", params);
+            namedJdbc.update(ARCHIVE_POSTS, params);
+            namedJdbc.update("delete from post where id in (:ids)", params);
+            meterRegistry.counter("archive.rows", "table", "comment").increment(c);
+            meterRegistry.counter("archive.rows", "table", "post").increment(ids.size());
+            return ids.size();
+        });
+        return n == null ? 0 : n;
+    }
+
+    private int archiveCommentBatch(LocalDateTime cutoff) {
+        Integer n = tx.execute(status -> {
+            List<Long> ids = jdbc.queryForList(
+                    "select id from comment where delete_yn = 'Y' and update_date < ? order by id limit ?",
+                    Long.class, cutoff, batchSize);
+            if (ids.isEmpty()) return 0;
+            var params = new MapSqlParameterSource("ids", ids);
+            namedJdbc.update(ARCHIVE_COMMENTS, params);
+            namedJdbc.update("delete from comment where id in (:ids)", params);
+            meterRegistry.counter("archive.rows", "table", "comment").increment(ids.size());
+            return ids.size();
+        });
+        return n == null ? 0 : n;
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) Thread.sleep(pauseMs);
+    }
+}
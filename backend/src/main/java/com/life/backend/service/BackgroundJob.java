@@ -0,0 +1,60 @@
+package com.life.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래 걸리는 주기 작업(배치 + sleep)용 전용 스레드 1개.
+ *
+ * @Scheduled 의 기본 스케줄러는 스레드가 하나라 거기서 몇 분씩 돌면 통계 push, 접속자 방송, 좋아요 flush,
+ * 순방문자 체크포인트, 복제 지연 체크가 전부 밀린다 → 스케줄러는 트리거만 하고 실제 작업은 여기서.
+ * 이전 실행이 아직 돌고 있으면 이번 트리거는 건너뜀. close() 는 interrupt 로 배치 사이 sleep 을 깨움.
+ */
+@Slf4j
+final class BackgroundJob implements AutoCloseable {
+
+    private final String name;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    BackgroundJob(String name) {
+        this.name = name;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 실행을 넘겼으면 true, 이전 실행 중이거나 종료 중이면 false */
+    boolean trigger(Runnable job) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("{}: previous run still in progress, skipping", name);
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (Exception e) {
+                    log.error("{} failed", name, e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,167 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.life.backend.entity.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보존기간이 지난 채팅을 월 단위 압축 파일로 보관 / 조회.
+ *   {archive-dir}/chat-YYYY-MM.ndjson.gz  (create_date, id 오름차순, 한 번 쓰면 수정 없음)
+ * 조회는 낮은 우선순위의 단일 스레드에서만 수행하고, 밀려 있으면 거절(빈 결과)한다.
+ */
+@Slf4j
+@Component
+public class ChatArchiveStore {
+
+    private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+    private final long readTimeoutMs;
+    private final ThreadPoolExecutor reader;
+
+    public ChatArchiveStore(ObjectMapper objectMapper,
+                            @Value("${app.chat.archive-dir:./chat-archive}") String archiveDir,
+                            @Value("${app.chat.archive-read-timeout-ms:3000}") long readTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.dir = Path.of(archiveDir).toAbsolutePath().normalize();
+        this.readTimeoutMs = readTimeoutMs;
+        this.reader = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), r -> {
+            Thread t = new Thread(r, "chat-archive-reader");
+            t.setPriority(Thread.MIN_PRIORITY);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public boolean exists(YearMonth month) {
+        return Files.exists(file(month));
+    }
+
+    /** writer 에 한 달 치 행을 순서대로 넘기면 임시 파일에 쓴 뒤 원자적으로 확정. 반환: 기록 건수 */
+    public long write(YearMonth month, Consumer<Consumer<ChatMessage>> rows) throws IOException {
+        Files.createDirectories(dir);
+        Path target = file(month);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        long[] n = {0};
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 64 * 1024));
+             JsonGenerator g = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            g.setRootValueSeparator(null);
+            rows.accept(m -> {
+                try {
+                    g.writeStartObject();
+                    g.writeStringField("id", m.getId());
+                    g.writeStringField("senderId", m.getSenderId());
+                    g.writeStringField("nickname", m.getNickname());
+                    g.writeStringField("text", m.getText());
+                    g.writeStringField("createDate", m.getCreateDate().format(F));
+                    g.writeEndObject();
+                    g.writeRaw('\n');
+                    n[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return n[0];
+    }
+
+    /**
+     * before 보다 이전 메시지를 최신순으로 최대 limit 개 (아카이브 파일만 대상).
+     * 읽기 스레드가 바쁘거나 timeout 이면 빈 목록.
+     */
+    public List<ChatMessage> history(LocalDateTime before, int limit) {
+        if (limit <= 0 || !Files.isDirectory(dir)) return List.of();
+        try {
+            return reader.submit(() -> read(before, limit)).get(readTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException | TimeoutException e) {
+            log.debug("chat archive read skipped: {}", e.toString());
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            log.warn("chat archive read failed", e.getCause());
+            return List.of();
+        }
+    }
+
+    private List<ChatMessage> read(LocalDateTime before, int limit) throws IOException {
+        List<ChatMessage> out = new ArrayList<>(limit);
+        YearMonth earliest = earliestMonth();
+        if (earliest == null) return out;
+        for (YearMonth m = YearMonth.from(before); !m.isBefore(earliest) && out.size() < limit; m = m.minusMonths(1)) {
+            if (!exists(m)) continue;
+            // 파일은 오름차순 → before 이전 것 중 마지막 (limit - out.size()) 개만 유지
+            int need = limit - out.size();
+            ArrayDeque<ChatMessage> window = new ArrayDeque<>(need);
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file(m))), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = r.readLine()) != null) {
+                    ChatMessage msg = parse(line);
+                    if (msg == null || msg.getCreateDate().isAfter(before)) continue;
+                    if (window.size() == need) window.removeFirst();
+                    window.addLast(msg);
+                }
+            }
+            for (Iterator<ChatMessage> it = window.descendingIterator(); it.hasNext(); ) out.add(it.next());
+        }
+        return out;
+    }
+
+    private ChatMessage parse(String line) {
+        try {
+            JsonNode n = objectMapper.readTree(line);
+            ChatMessage m = new ChatMessage();
+            m.setId(n.path("id").asText());
+            m.setSenderId(n.path("senderId").asText());
+            m.setNickname(n.path("nickname").asText());
+            m.setText(n.path("text").asText());
+            m.setCreateDate(LocalDateTime.parse(n.path("createDate").asText(), F));
+            return m;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private YearMonth earliestMonth() throws IOException {
+        try (var files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith("chat-") && n.endsWith(".ndjson.gz"))
+                    .map(n -> YearMonth.parse(n.substring(5, 12)))
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+        }
+    }
+
+    private Path file(YearMonth month) {
+        return dir.resolve("chat-" + month + ".ndjson.gz");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reader.shutdownNow();
+    }
+}
@@ -0,0 +1,126 @@
+package com.life.backend.service;
+
+import com.life.backend.dto.PresenceDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 접속자(presence) 집계.
+ *
+ * STOMP CONNECT/DISCONNECT/SUBSCRIBE 이벤트는 세션 맵과 senderId 별 세션 수만 갱신하고 (DB/브로드캐스트 없음),
+ * 바뀐 게 있으면 dirty 표시만 한다. 방송은 push-interval-ms 주기로 최대 1회 /topic/presence 로 나감
+ * → 접속/해제가 아무리 몰려도 초당 방송 횟수는 고정.
+ * 클라이언트는 CONNECT 헤더에 senderId / nickname 을 실어 보낸다 (없으면 세션 id 로 익명 처리).
+ * 같은 STOMP 엔드포인트를 글 통계 구독 등에도 쓰므로 CONNECT 만으로는 세지 않고,
+ * 채팅 토픽(/topic/public, /topic/presence)을 처음 구독할 때 접속자로 센다.
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private record Session(String senderId, String nickname) {}
+
+    private final SimpMessagingTemplate messaging;
+
+    private final Map<String, Session> connected = new ConcurrentHashMap<>();   // sessionId → CONNECT 헤더 (아직 안 셈)
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();    // sessionId → 사용자 (채팅 구독한 세션만)
+    private final Map<String, LongAdder> perUser = new ConcurrentHashMap<>();   // senderId → 세션 수 (탭 여러 개)
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private volatile PresenceDTO snapshot = PresenceDTO.EMPTY;
+
+    @Value("${app.chat.presence.max-nicknames:50}")
+    private int maxNicknames;
+
+    public ChatPresenceService(SimpMessagingTemplate messaging, MeterRegistry meterRegistry) {
+        this.messaging = messaging;
+        meterRegistry.gauge("chat.presence.sessions", sessions, Map::size);
+        meterRegistry.gauge("chat.presence.users", perUser, Map::size);
+        meterRegistry.more().counter("chat.presence.connects", List.of(), connects, LongAdder::sum);
+        meterRegistry.more().counter("chat.presence.disconnects", List.of(), disconnects, LongAdder::sum);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent e) {
+        StompHeaderAccessor h = StompHeaderAccessor.wrap(e.getMessage());
+        String sessionId = h.getSessionId();
+        if (sessionId == null) return;
+
+        String senderId = trim(h.getFirstNativeHeader("senderId"), 64);
+        String nickname = trim(h.getFirstNativeHeader("nickname"), 40);
+        connected.put(sessionId, new Session(senderId != null ? senderId : "anon:" + sessionId, nickname != null ? nickname : "익명"));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent e) {
+        connected.remove(e.getSessionId());
+        Session s = sessions.remove(e.getSessionId());   // DISCONNECT + 소켓 종료로 두 번 올 수 있음
+        if (s == null) return;
+        disconnects.increment();
+        perUser.computeIfPresent(s.senderId(), (k, n) -> {
+            n.decrement();
+            return n.sum() <= 0 ? null : n;
+        });
+        dirty.set(true);
+    }
+
+    // 채팅 토픽을 처음 구독한 세션을 접속자로 셈. /topic/presence 구독은 새 클라이언트가 다음 주기에 현황을 받도록 dirty
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent e) {
+        StompHeaderAccessor h = StompHeaderAccessor.wrap(e.getMessage());
+        String destination = h.getDestination();
+        if (!"/topic/public".equals(destination) && !"/topic/presence".equals(destination)) return;
+        String sessionId = h.getSessionId();
+        Session s = sessionId != null ? connected.remove(sessionId) : null;
+        if (s != null && sessions.putIfAbsent(sessionId, s) == null) {
+            perUser.computeIfAbsent(s.senderId(), k -> new LongAdder()).increment();
+            connects.increment();
+        }
+        dirty.set(true);
+    }
+
+    public PresenceDTO current() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedRateString = "${app.chat.presence.push-interval-ms:2000}")
+    public void flush() {
+        if (!dirty.compareAndSet(true, false)) return;
+
+        List<String> nicknames = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Session s : sessions.values()) {
+            if (nicknames.size() >= maxNicknames) break;
+            if (seen.add(s.senderId())) nicknames.add(s.nickname());
+        }
+        PresenceDTO next = new PresenceDTO(perUser.size(), sessions.size(), List.copyOf(nicknames));
+        snapshot = next;
+        messaging.convertAndSend("/topic/presence", next);
+    }
+
+    private static String trim(String v, int max) {
+        if (v == null || v.isBlank()) return null;
+        v = v.strip();
+        return v.length() > max ? v.substring(0, max) : v;
+    }
+}
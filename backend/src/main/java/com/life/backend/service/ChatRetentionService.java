@@ -0,0 +1,187 @@
+package com.life.backend.service;
+
+import com.life.backend.entity.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * chat_message 보존 관리.
+ *
+ * - partitioning.enabled=true 이면 chat_message 를 create_date 월 단위 RANGE 파티션으로 전환하고
+ *   (PK 는 (id, create_date) 로 변경), 매일 다음 달 파티션을 미리 만든다 (pmax 분할).
+ * - retention-months 가 지난 달은 ChatArchiveStore 로 압축 파일을 만든 뒤
+ *   파티션이면 DROP PARTITION, 아니면 작은 배치 DELETE 로 지운다.
+ * - 파일이 이미 있는 달은 다시 쓰지 않는다 (삭제 전에 중단됐던 경우 삭제만 재시도).
+ * - 압축 파일이 지워진 행의 유일한 사본이므로 archive-dir 은 영속 볼륨이어야 함 (Dockerfile 의 VOLUME /app/chat-archive).
+ * - ALTER TABLE / 내보내기 / 배치 삭제는 오래 걸리므로 공용 스케줄러 스레드가 아닌 전용 스레드(BackgroundJob)에서.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRetentionService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int EXPORT_PAGE = 1000;
+    private static final int DELETE_BATCH = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final ChatArchiveStore archive;
+
+    @Value("${app.chat.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${app.chat.partitioning.enabled:false}")
+    private boolean partitioning;
+
+    private final BackgroundJob job = new BackgroundJob("chat-retention");
+
+    @Scheduled(cron = "${app.chat.retention-cron:0 10 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        job.trigger(this::retain);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.close();
+    }
+
+    private void retain() {
+        try {
+            if (partitioning) {
+                ensurePartitioned();
+                rollover();
+            }
+            archiveExpired();
+        } catch (Exception e) {
+            log.error("chat retention failed", e);
+        }
+    }
+
+    // ===================== 파티션 =====================
+
+    private List<String> partitions() {
+        return jdbc.queryForList("""
+            select partition_name from information_schema.partitions
+             where table_schema = database() and table_name = 'chat_message' and partition_name is not null
+             order by partition_ordinal_position
+        """, String.class);
+    }
+
+    private void ensurePartitioned() {
+        if (!partitions().isEmpty()) return;
+
+        LocalDateTime min = jdbc.queryForObject("select min(create_date) from chat_message", LocalDateTime.class);
+        YearMonth from = min != null ? YearMonth.from(min) : YearMonth.now(ZONE);
+        YearMonth to = YearMonth.now(ZONE).plusMonths(1);
+
+        StringBuilder ddl = new StringBuilder("alter table chat_message partition by range columns(create_date) (");
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            ddl.append(partitionDef(m)).append(", ");
+        }
+        ddl.append("partition pmax values less than (maxvalue))");
+
+        log.info("chat_message: converting to monthly partitions {}..{}", from, to);
+        // 파티션 키는 모든 unique 키에 포함돼야 함
+        jdbc.execute("alter table chat_message drop primary key, add primary key (id, create_date)");
+        jdbc.execute(ddl.toString());
+    }
+
+    private void rollover() {
+        Set<String> existing = new HashSet<>(partitions());
+        YearMonth now = YearMonth.now(ZONE);
+        for (YearMonth m : List.of(now, now.plusMonths(1))) {
+            if (existing.contains(partitionName(m))) continue;
+            jdbc.execute("alter table chat_message reorganize partition pmax into ("
+                    + partitionDef(m) + ", partition pmax values less than (maxvalue))");
+            log.info("chat_message: added partition {}", partitionName(m));
+        }
+    }
+
+    private static String partitionName(YearMonth m) {
+        return "p" + m.getYear() + String.format("%02d", m.getMonthValue());
+    }
+
+    private static String partitionDef(YearMonth m) {
+        return "partition " + partitionName(m) + " values less than ('" + m.plusMonths(1).atDay(1) + "')";
+    }
+
+    // ===================== 아카이브 =====================
+
+    private void archiveExpired() throws Exception {
+        YearMonth cutoff = YearMonth.now(ZONE).minusMonths(retentionMonths); // 이 달 이전은 만료
+        LocalDateTime min = jdbc.queryForObject(
+                "select min(create_date) from chat_message where create_date < ?",
+                LocalDateTime.class, Timestamp.valueOf(cutoff.atDay(1).atStartOfDay()));
+        if (min == null) return;
+
+        for (YearMonth m = YearMonth.from(min); m.isBefore(cutoff); m = m.plusMonths(1)) {
+            LocalDate start = m.atDay(1);
+            LocalDate end = m.plusMonths(1).atDay(1);
+            if (!archive.exists(m)) {
+                long n = archive.write(m, sink -> exportMonth(start, end, sink));
+                log.info("chat archive: {} → {} messages", m, n);
+            }
+            dropMonth(m, start, end);
+        }
+    }
+
+    // [start, end) 를 (create_date, id) keyset 으로 EXPORT_PAGE 씩 읽음. 첫 페이지 keyset 은 (start, "") → start 시각 행 포함
+    private void exportMonth(LocalDate start, LocalDate end, Consumer<ChatMessage> sink) {
+        Timestamp startTs = Timestamp.valueOf(start.atStartOfDay());
+        Timestamp endTs = Timestamp.valueOf(end.atStartOfDay());
+        Timestamp lastDate = startTs;
+        String lastId = "";
+        while (true) {
+            List<ChatMessage> page = new ArrayList<>(EXPORT_PAGE);
+            jdbc.query("""
+                select id, sender_id, nickname, text, create_date from chat_message
+                 where create_date >= ? and create_date < ?
+                   and (create_date > ? or (create_date = ? and id > ?))
+                 order by create_date, id
+                 limit ?
+            """, rs -> {
+                ChatMessage m = new ChatMessage();
+                m.setId(rs.getString(1));
+                m.setSenderId(rs.getString(2));
+                m.setNickname(rs.getString(3));
+                m.setText(rs.getString(4));
+                m.setCreateDate(rs.getTimestamp(5).toLocalDateTime());
+                page.add(m);
+            }, startTs, endTs, lastDate, lastDate, lastId, EXPORT_PAGE);
+            page.forEach(sink);
+            if (page.size() < EXPORT_PAGE) return;
+            ChatMessage last = page.get(page.size() - 1);
+            lastDate = Timestamp.valueOf(last.getCreateDate());
+            lastId = last.getId();
+        }
+    }
+
+    private void dropMonth(YearMonth m, LocalDate start, LocalDate end) throws InterruptedException {
+        if (partitioning && partitions().contains(partitionName(m))) {
+            jdbc.execute("alter table chat_message drop partition " + partitionName(m));
+            return;
+        }
+        int n;
+        do {
+            n = jdbc.update("delete from chat_message where create_date >= ? and create_date < ? limit " + DELETE_BATCH,
+                    Timestamp.valueOf(start.atStartOfDay()), Timestamp.valueOf(end.atStartOfDay()));
+            if (n > 0) Thread.sleep(50);
+        } while (n == DELETE_BATCH);
+    }
+}
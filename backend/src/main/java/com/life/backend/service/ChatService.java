@@ -3,23 +3,35 @@ package com.life.backend.service;
 import com.life.backend.dto.ChatMessageDTO;
 import com.life.backend.entity.ChatMessage;
 import com.life.backend.repository.ChatMessageRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class ChatService {
     private final ChatMessageRepository repo;
+    private final ChatArchiveStore archive;
+    private final TransactionTemplate readTx;
     private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    public ChatService(ChatMessageRepository repo, ChatArchiveStore archive, PlatformTransactionManager txManager) {
+        this.repo = repo;
+        this.archive = archive;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);   // replica 라우팅 대상
+    }
+
     public ChatMessage saveIncoming(ChatMessageDTO dto) {
         ChatMessage m = new ChatMessage();
         m.setId(dto.getId() != null ? dto.getId() : UUID.randomUUID().toString());
@@ -32,8 +44,22 @@ public class ChatService {
 
     public List<ChatMessage> history(LocalDateTime before, int limit) {
         LocalDateTime b = (before != null) ? before : LocalDateTime.now(ZONE);
-        return repo.findByCreateDateLessThanEqualOrderByCreateDateDesc(
-                b, PageRequest.of(0, Math.max(1, Math.min(limit, 200))));
+        int n = Math.max(1, Math.min(limit, 200));
+        List<ChatMessage> live = readTx.execute(
+                status -> repo.findByCreateDateLessThanEqualOrderByCreateDateDesc(b, PageRequest.of(0, n)));
+        if (live.size() >= n) return live;
+
+        // 라이브 테이블에서 모자라면 그 이전 구간은 아카이브 파일에서 (저우선순위).
+        // 트랜잭션 밖에서: 압축 해제를 기다리는 동안(최대 archive-read-timeout-ms) DB 커넥션을 잡지 않게
+        LocalDateTime edge = live.isEmpty() ? b : live.get(live.size() - 1).getCreateDate();
+        Set<String> seen = new HashSet<>();
+        live.forEach(m -> seen.add(m.getId()));
+        List<ChatMessage> out = new ArrayList<>(live);
+        for (ChatMessage m : archive.history(edge, n)) {
+            if (out.size() >= n) break;
+            if (seen.add(m.getId())) out.add(m);
+        }
+        return out;
     }
 
     public static ChatMessageDTO toDTO(ChatMessage m) {
@@ -0,0 +1,74 @@
+package com.life.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+/**
+ * clientReqId 기준 중복 요청 흡수 (더블클릭/재전송).
+ * 첫 요청만 실제로 실행하고, 진행 중에 들어온 같은 키의 요청은 그 결과를 기다렸다가 같은 값을 돌려준다.
+ * 완료된 결과는 ttl 동안 보관. 실패하면 키를 비워서 재시도가 가능하게 한다.
+ * (트랜잭션 밖에서 호출해야 커밋된 결과만 공유됨)
+ */
+@Service
+public class IdempotencyService {
+
+    private final Cache<String, CompletableFuture<Object>> requests;
+    private final long waitTimeoutMs;
+
+    public IdempotencyService(@Value("${app.idempotency.max-entries:10000}") long maxEntries,
+                              @Value("${app.idempotency.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.requests = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> action) {
+        if (key == null || key.isBlank()) return action.get();
+
+        var mine = new CompletableFuture<Object>();
+        var existing = requests.asMap().putIfAbsent(key, mine);
+        if (existing != null) return (T) await(existing);
+
+        try {
+            T result = action.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error(OOM, StackOverflow 등)도 여기서 정리 → 안 그러면 기다리던 요청은 타임아웃, 재시도는 ttl 동안 409
+            requests.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> first) {
+        try {
+            return first.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(CONFLICT, "같은 요청을 처리 중입니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(CONFLICT, "같은 요청을 처리 중입니다.");
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.life.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.life.backend.event.PostChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 좋아요 중복 방지 장부: 글별로 "좋아요 누른 클라이언트 지문(64bit)" 집합.
+ *
+ * 글마다 long open-addressing 해시셋 (지문 1개당 8~16바이트) 을 Caffeine 에 두고,
+ * 전체 크기가 max-bytes 를 넘으면 오래 안 쓰인 글의 셋을 디스크({dir}/{id%256}/{id}.bin)로 내린다.
+ * 다시 필요하면 파일에서 읽어 올림. 변경된 셋은 flush-interval-ms 마다, 그리고 종료 시 파일로 저장.
+ * (비정상 종료 시 마지막 flush 이후 기록은 잃을 수 있음 → 그 구간만 중복 허용)
+ * 비게 된 셋은 캐시에서 빼고 파일도 지움 (없는 글에 좋아요 → 404 로 되돌린 경우 등, 빈 파일이 쌓이지 않게).
+ *
+ * 장부는 인스턴스 로컬 디스크라 인스턴스끼리 공유되지 않는다:
+ * 여러 대로 띄우면 같은 클라이언트가 인스턴스마다 한 번씩 누를 수 있고,
+ * dir 을 볼륨으로 잡지 않은 컨테이너는 재생성 시 장부가 비어 다시 누를 수 있음 (likes 카운트 자체는 DB 라 유지).
+ */
+@Slf4j
+@Service
+public class LikeLedger {
+
+    private final Path dir;
+    private final LoadingCache<Long, LongSet> sets;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public LikeLedger(@Value("${app.likes.ledger.dir:./like-ledger}") String dir,
+                      @Value("${app.likes.ledger.max-bytes:67108864}") long maxBytes) {
+        this.dir = Path.of(dir).toAbsolutePath().normalize();
+        this.sets = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, LongSet s) -> s.bytes())
+                // 동기 리스너: 내려가는 동안 같은 글을 다시 읽으면 저장이 끝난 파일을 보게 됨
+                .evictionListener((Long id, LongSet s, RemovalCause cause) -> {
+                    if (id != null && s != null && dirty.remove(id)) save(id, s);
+                })
+                .build(this::load);
+    }
+
+    /** 처음 누른 좋아요면 true (장부에 기록), 이미 눌렀으면 false */
+    public boolean add(long postId, long fingerprint) {
+        return update(postId, s -> s.add(fingerprint));
+    }
+
+    /** 장부에 있던 좋아요만 취소 가능 */
+    public boolean remove(long postId, long fingerprint) {
+        return update(postId, s -> s.remove(fingerprint));
+    }
+
+    // compute 안에서 변경 → 내려가기(eviction)와 겹치지 않고, 가중치도 같이 다시 계산됨
+    private boolean update(long postId, Predicate<LongSet> op) {
+        boolean[] changed = new boolean[1];
+        sets.asMap().compute(postId, (id, cur) -> {
+            LongSet s = cur != null ? cur : load(id);
+            synchronized (s) {
+                changed[0] = op.test(s);
+            }
+            if (s.size() == 0) {
+                if (changed[0]) {
+                    dirty.remove(id);
+                    deleteFile(id);
+                }
+                return null;   // 빈 셋은 들고 있지 않음 (안 누른 글에 취소만 온 경우 포함)
+            }
+            if (changed[0]) dirty.add(id);
+            return s;
+        });
+        return changed[0];
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        if (e.type() != PostChangedEvent.Type.DELETED) return;
+        sets.invalidate(e.postId());
+        dirty.remove(e.postId());
+        deleteFile(e.postId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.ledger.flush-interval-ms:10000}")
+    public void flush() {
+        for (Long id : dirty) {
+            if (!dirty.remove(id)) continue;
+            LongSet s = sets.getIfPresent(id);
+            if (s != null) save(id, s);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ===================== 디스크 =====================
+
+    private Path file(long postId) {
+        return dir.resolve(String.valueOf(postId % 256)).resolve(postId + ".bin");
+    }
+
+    private void deleteFile(long postId) {
+        try {
+            Files.deleteIfExists(file(postId));
+        } catch (IOException e) {
+            log.warn("like ledger: delete failed for post {}", postId, e);
+        }
+    }
+
+    private LongSet load(Long postId) {
+        Path f = file(postId);
+        if (!Files.exists(f)) return new LongSet();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(f)))) {
+            int n = in.readInt();
+            LongSet s = new LongSet(n);
+            for (int i = 0; i < n; i++) s.add(in.readLong());
+            return s;
+        } catch (IOException e) {
+            log.warn("like ledger: unreadable {}, starting empty", f, e);
+            return new LongSet();
+        }
+    }
+
+    private void save(long postId, LongSet s) {
+        long[] values;
+        synchronized (s) {
+            values = s.toArray();
+        }
+        if (values.length == 0) {
+            deleteFile(postId);
+            return;
+        }
+        Path f = file(postId);
+        try {
+            Files.createDirectories(f.getParent());
+            Path tmp = Files.createTempFile(f.getParent(), postId + ".", ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(values.length);
+                for (long v : values) out.writeLong(v);
+            }
+            Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.add(postId);   // 다음 flush 에 재시도
+            log.warn("like ledger: save failed for post {}", postId, e);
+        }
+    }
+
+    // ===================== long 해시셋 =====================
+
+    /** open addressing (선형 탐사), 0 은 빈 칸 표시라 지문 0 은 1 로 취급. 삭제는 뒤쪽 원소 당겨오기 */
+    static final class LongSet {
+        private long[] table;
+        private int size;
+
+        LongSet() {
+            this(4);
+        }
+
+        LongSet(int expected) {
+            int cap = 8;
+            while (cap < expected * 2) cap <<= 1;
+            table = new long[cap];
+        }
+
+        int bytes() {
+            return 32 + table.length * 8;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(long v) {
+            v = v == 0 ? 1 : v;
+            int mask = table.length - 1;
+            for (int i = slot(v, mask); table[i] != 0; i = (i + 1) & mask) {
+                if (table[i] == v) return true;
+            }
+            return false;
+        }
+
+        boolean add(long v) {
+            v = v == 0 ? 1 : v;
+            if ((size + 1) * 2 > table.length) grow();
+            int mask = table.length - 1;
+            int i = slot(v, mask);
+            for (; table[i] != 0; i = (i + 1) & mask) {
+                if (table[i] == v) return false;
+            }
+            table[i] = v;
+            size++;
+            return true;
+        }
+
+        boolean remove(long v) {
+            v = v == 0 ? 1 : v;
+            int mask = table.length - 1;
+            int i = slot(v, mask);
+            for (; table[i] != 0; i = (i + 1) & mask) {
+                if (table[i] == v) break;
+            }
+            if (table[i] == 0) return false;
+            table[i] = 0;
+            size--;
+            // 같은 클러스터 뒤쪽 원소 중 i 자리로 와야 하는 것들을 당겨옴
+            for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+                int home = slot(table[j], mask);
+                boolean movable = (i <= j) ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    table[i] = table[j];
+                    table[j] = 0;
+                    i = j;
+                }
+            }
+            return true;
+        }
+
+        long[] toArray() {
+            return Arrays.stream(table).filter(v -> v != 0).toArray();
+        }
+
+        private void grow() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            size = 0;
+            for (long v : old) if (v != 0) add(v);
+        }
+
+        private static int slot(long v, int mask) {
+            return (int) (v ^ (v >>> 32)) & mask;
+        }
+    }
+}
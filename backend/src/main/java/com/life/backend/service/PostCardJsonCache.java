@@ -0,0 +1,72 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.life.backend.dto.PostDTO;
+import com.life.backend.entity.Post;
+import com.life.backend.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 목록 카드 JSON 조각 캐시 (UTF-8 바이트).
+ *
+ * 글 id 별로 (버전, 직렬화된 PostDTO) 를 들고 있고, 버전은 목록 조회 때 이미 읽은 엔티티 값
+ * (수정일·좋아요·조회수·순방문자·댓글 수·상태) 그대로의 튜플 → equals 로 비교해 같으면
+ * DTO 생성/날짜 포맷/Jackson 없이 바이트 재사용 (해시가 아니라 충돌로 옛 조각이 나갈 일 없음).
+ * 변경 이벤트가 오면 바로 버림 (버전 비교만으로도 안 맞지만, 안 쓰일 바이트를 오래 들고 있지 않게).
+ */
+@Service
+public class PostCardJsonCache {
+
+    private record Version(LocalDateTime updateDate, int likes, int views, int uniqueViews, int commentCount,
+                           String title, String updateYn, String contentCodec) {}
+
+    private record Fragment(Version version, byte[] json) {}
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Fragment> fragments;
+
+    public PostCardJsonCache(ObjectMapper objectMapper,
+                             @Value("${app.post.card-cache-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Fragment f) -> f.json().length + 256)   // 버전 튜플(제목 문자열 포함) 몫 대략
+                .expireAfterAccess(Duration.ofHours(6))
+                .build();
+    }
+
+    public byte[] fragment(Post p, int commentCount, Supplier<PostDTO> build) {
+        Version version = version(p, commentCount);
+        Fragment f = fragments.getIfPresent(p.getId());
+        if (f != null && f.version().equals(version)) return f.json();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(build.get());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        fragments.put(p.getId(), new Fragment(version, json));
+        return json;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        fragments.invalidate(e.postId());
+    }
+
+    private static Version version(Post p, int commentCount) {
+        return new Version(p.getUpdateDate(), p.getLikes(), p.getViews(), p.getUniqueViews(), commentCount,
+                p.getTitle(), p.getUpdateYn(), p.getContentCodec());
+    }
+}
@@ -0,0 +1,100 @@
+package com.life.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * compress-content=true 일 때 기존 평문 본문(content_codec is null)을 gzip 으로 옮긴다.
+ * 조회 경로에서 변환하면 GET 한 번이 쓰기 트랜잭션(행 락 + 큰 UPDATE)이 되므로 여기서 따로.
+ * - id 순 batch-size 개씩, 배치마다 별도 트랜잭션 (select ... for update 로 그 사이 수정과 겹치지 않게), 배치 사이 pause-ms 휴식
+ * - update_date 는 건드리지 않음 (카드 캐시 버전에는 content_codec 이 들어 있어 바뀐 카드로 인식)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostContentBackfill {
+
+    private static final String UPDATE = """
+        update post set content_gz = ?, content_codec = ?, content = '', search_text = ?
+         where id = ? and content_codec is null
+    """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.post.compress-content:false}")
+    private boolean compressContent;
+
+    @Value("${app.post.backfill.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.post.backfill.pause-ms:200}")
+    private long pauseMs;
+
+    private final BackgroundJob job = new BackgroundJob("post-content-backfill");
+
+    @Scheduled(initialDelayString = "${app.post.backfill.initial-delay-ms:60000}",
+               fixedDelayString = "${app.post.backfill.interval-ms:600000}")
+    public void run() {
+        if (compressContent) job.trigger(this::backfill);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.close();
+    }
+
+    void backfill() {
+        long after = 0;
+        int total = 0;
+        try {
+            while (true) {
+                long[] last = {after};
+                Integer n = tx.execute(status -> compressBatch(last));
+                if (n == null || n == 0) break;
+                total += n;
+                after = last[0];
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (total > 0) log.info("compressed content of {} posts", total);
+    }
+
+    // afterId 다음부터 한 배치. 처리한 행 수를 돌려주고 afterId[0] 를 마지막 id 로 옮김
+    int compressBatch(long[] afterId) {
+        record Row(long id, String html) {}
+        List<Row> rows = jdbc.query(
+                "select id, content from post where id > ? and content_codec is null order by id limit ? for update",
+                (rs, i) -> new Row(rs.getLong("id"), rs.getString("content")),
+                afterId[0], batchSize);
+        if (rows.isEmpty()) return 0;
+
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Row r : rows) {
+            String html = r.html() == null ? "" : r.html();
+            args.add(new Object[]{PostContentCodec.gzip(html), PostContentCodec.GZIP_V1, Jsoup.parse(html).text(), r.id()});
+        }
+        jdbc.batchUpdate(UPDATE, args);
+        meterRegistry.counter("post.content.backfill").increment(rows.size());
+        afterId[0] = rows.get(rows.size() - 1).id();
+        return rows.size();
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) Thread.sleep(pauseMs);
+    }
+}
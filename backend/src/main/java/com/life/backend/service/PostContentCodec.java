@@ -0,0 +1,80 @@
+package com.life.backend.service;
+
+import com.life.backend.entity.Post;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Entities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 글 본문 저장 형식.
+ *   content_codec = null     → content(MEDIUMTEXT) 평문 (기존 행)
+ *   content_codec = "gzip-v1" → content_gz 에 UTF-8 HTML 의 gzip 바이트, content 는 "",
+ *                               search_text 에 태그를 뺀 평문 (본문 검색용)
+ * gzip 바이트는 그대로 Content-Encoding: gzip 응답 본문으로 쓸 수 있다.
+ * 목록 카드는 preview() 로 압축을 풀지 않고 search_text 앞부분만 쓴다.
+ */
+public final class PostContentCodec {
+
+    public static final String GZIP_V1 = "gzip-v1";
+
+    // 카드 미리보기 길이 (프론트는 140자까지 보여줌)
+    static final int PREVIEW_CHARS = 300;
+
+    private PostContentCodec() {}
+
+    public static boolean isCompressed(Post p) {
+        return GZIP_V1.equals(p.getContentCodec()) && p.getContentGz() != null;
+    }
+
+    public static String read(Post p) {
+        return isCompressed(p) ? gunzip(p.getContentGz()) : p.getContent();
+    }
+
+    // 카드용 본문. 압축 행은 평문(search_text) 앞부분을 HTML 이스케이프해서 → 프론트가 HTML 로 파싱해도 같은 글자.
+    // 평문 행은 이미 메모리에 있는 content 그대로
+    public static String preview(Post p) {
+        if (!isCompressed(p)) return p.getContent();
+        String text = p.getSearchText() == null ? "" : p.getSearchText();
+        if (text.length() > PREVIEW_CHARS) text = text.substring(0, PREVIEW_CHARS);
+        return Entities.escape(text);
+    }
+
+    public static void write(Post p, String html, boolean compress) {
+        if (compress) {
+            p.setContentGz(gzip(html));
+            p.setContentCodec(GZIP_V1);
+            p.setContent("");
+            p.setSearchText(Jsoup.parse(html).text());
+        } else {
+            p.setContent(html);
+            p.setContentGz(null);
+            p.setContentCodec(null);
+            p.setSearchText(null);
+        }
+    }
+
+    public static byte[] gzip(String s) {
+        var bos = new ByteArrayOutputStream(Math.max(64, s.length() / 3));
+        try (var gz = new GZIPOutputStream(bos)) {
+            gz.write(s.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    public static String gunzip(byte[] bytes) {
+        try (var gz = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gz.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
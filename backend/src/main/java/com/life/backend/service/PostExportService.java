@@ -0,0 +1,339 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.life.backend.entity.Post;
+import com.life.backend.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 전체 글 사이트맵 / NDJSON 익스포트.
+ *
+ * - 사이트맵: id 구간(bucket, 50,000개) 하나가 sitemap 파일 하나. 구간별 (글 수, 최종 수정일)이
+ *   바뀐 파일만 커서로 다시 쓰고, 인덱스(sitemap index)는 구간 목록으로 만든다.
+ *   생성된 파일은 app.sitemap.dir 에 캐시되고 refresh-interval 안에서는 그대로 서빙.
+ * - 익스포트: 사이트맵과 같은 방식으로 id 구간(10,000개)별 NDJSON 파일을 app.export.dir 에 캐시하고
+ *   바뀐 구간만 커서로 다시 쓴다 (엔티티는 쓰고 나서 detach → 메모리 일정). 다운로드는 파일을 이어 붙여 보내므로
+ *   느린 클라이언트가 DB 커넥션/트랜잭션을 잡고 있지 않음.
+ * 트랜잭션은 파일을 다시 쓰는 동안에만 (갱신을 기다리는 요청이 커넥션을 잡지 않도록 메서드 단위로 걸지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    public static final int URLS_PER_SITEMAP = 50_000;
+    public static final int POSTS_PER_EXPORT_PART = 10_000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter W3C = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String MANIFEST = "manifest.properties";
+
+    private final PostRepository postRepo;
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+
+    @Value("${app.site-url:https://life.binaryworld.kr}")
+    private String siteUrl;
+
+    // 프론트에서 /sitemaps/** → /api/sitemap/** 로 rewrite
+    @Value("${app.sitemap.public-path:/sitemaps}")
+    private String publicPath;
+
+    @Value("${app.sitemap.dir:./sitemap-cache}")
+    private String sitemapDir;
+
+    @Value("${app.sitemap.refresh-interval-seconds:600}")
+    private long refreshIntervalSeconds;
+
+    @Value("${app.export.dir:./export-cache}")
+    private String exportDir;
+
+    @Value("${app.export.refresh-interval-seconds:3600}")
+    private long exportRefreshIntervalSeconds;
+
+    private volatile long lastRefreshAt = 0;
+    // synchronized 대신 Lock: 갱신 중 DB/파일 I/O 가 길어 virtual thread 가 carrier 에 고정(pinning)되지 않도록
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile long lastExportAt = 0;
+    private final ReentrantLock exportLock = new ReentrantLock();
+
+    // ===================== 사이트맵 =====================
+
+    public Path sitemapIndex() throws IOException {
+        refreshIfStale();
+        return dir().resolve("index.xml");
+    }
+
+    public Path sitemapPart(int bucket) throws IOException {
+        refreshIfStale();
+        Path p = dir().resolve(partName(bucket));
+        return Files.exists(p) ? p : null;
+    }
+
+    private void refreshIfStale() throws IOException {
+        if (System.currentTimeMillis() - lastRefreshAt < refreshIntervalSeconds * 1000) return;
+        refreshLock.lock();
+        try {
+            if (System.currentTimeMillis() - lastRefreshAt < refreshIntervalSeconds * 1000) return;
+            refresh();
+            lastRefreshAt = System.currentTimeMillis();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refresh() throws IOException {
+        Path dir = dir();
+        Files.createDirectories(dir);
+
+        Path manifestFile = dir.resolve(MANIFEST);
+        Properties old = readManifest(manifestFile);
+
+        // bucket → "count|lastMod"
+        Map<Integer, String> current = new TreeMap<>();
+        Map<Integer, LocalDateTime> lastMods = new HashMap<>();
+        for (Object[] row : postRepo.bucketSignatures(URLS_PER_SITEMAP)) {
+            int b = ((Number) row[0]).intValue();
+            LocalDateTime lastMod = toLocalDateTime(row[2]);
+            current.put(b, row[1] + "|" + lastMod);
+            lastMods.put(b, lastMod);
+        }
+
+        int written = 0;
+        for (var e : current.entrySet()) {
+            String key = String.valueOf(e.getKey());
+            if (e.getValue().equals(old.getProperty(key)) && Files.exists(dir.resolve(partName(e.getKey())))) continue;
+            int bucket = e.getKey();
+            inReadTx(() -> writePart(bucket));
+            written++;
+        }
+        // 비어버린 구간 파일 정리
+        for (String key : old.stringPropertyNames()) {
+            if (!current.containsKey(Integer.parseInt(key))) Files.deleteIfExists(dir.resolve(partName(Integer.parseInt(key))));
+        }
+
+        if (written > 0 || !current.keySet().equals(toIntSet(old.stringPropertyNames())) || !Files.exists(dir.resolve("index.xml"))) {
+            writeIndex(current.keySet(), lastMods);
+        }
+
+        Properties next = new Properties();
+        current.forEach((b, sig) -> next.setProperty(String.valueOf(b), sig));
+        Path tmp = dir.resolve(MANIFEST + ".tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) { next.store(w, null); }
+        Files.move(tmp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (written > 0) log.info("sitemap refreshed: {} of {} parts rewritten", written, current.size());
+    }
+
+    private void writePart(int bucket) throws IOException {
+        long from = (long) bucket * URLS_PER_SITEMAP;
+        Path target = dir().resolve(partName(bucket));
+        Path tmp = dir().resolve(partName(bucket) + ".tmp");
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(tmp), StandardCharsets.UTF_8), 64 * 1024);
+             Stream<PostRepository.Stamp> stamps = postRepo.streamStamps(from, from + URLS_PER_SITEMAP)) {
+            w.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            w.write("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+            Iterator<PostRepository.Stamp> it = stamps.iterator();
+            while (it.hasNext()) {
+                var s = it.next();
+                w.write("<url><loc>");
+                w.write(siteUrl);
+                w.write("/posts/");
+                w.write(String.valueOf(s.getId()));
+                w.write("</loc>");
+                if (s.getUpdateDate() != null) {
+                    w.write("<lastmod>");
+                    w.write(w3c(s.getUpdateDate()));
+                    w.write("</lastmod>");
+                }
+                w.write("</url>\n");
+            }
+            w.write("</urlset>\n");
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeIndex(Set<Integer> buckets, Map<Integer, LocalDateTime> lastMods) throws IOException {
+        Path target = dir().resolve("index.xml");
+        Path tmp = dir().resolve("index.xml.tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            w.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            w.write("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+            for (int b : buckets) {
+                w.write("<sitemap><loc>" + siteUrl + publicPath + "/" + partName(b) + "</loc>");
+                if (lastMods.get(b) != null) w.write("<lastmod>" + w3c(lastMods.get(b)) + "</lastmod>");
+                w.write("</sitemap>\n");
+            }
+            w.write("</sitemapindex>\n");
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ===================== NDJSON 익스포트 =====================
+
+    /**
+     * 캐시된 구간 파일 목록 (id 순). 갱신 주기가 지났으면 한 요청만 다시 쓰고,
+     * 그동안 다른 요청은 기존 파일을 그대로 받음 (처음 만드는 중이면 끝날 때까지 대기).
+     */
+    public List<Path> exportParts() throws IOException {
+        Path dir = exportDir();
+        boolean stale = System.currentTimeMillis() - lastExportAt >= exportRefreshIntervalSeconds * 1000;
+        if (stale) {
+            boolean hasFiles = Files.exists(dir.resolve(MANIFEST));
+            if (hasFiles ? exportLock.tryLock() : lock(exportLock)) {
+                try {
+                    if (System.currentTimeMillis() - lastExportAt >= exportRefreshIntervalSeconds * 1000) {
+                        refreshExport(dir);
+                        lastExportAt = System.currentTimeMillis();
+                    }
+                } finally {
+                    exportLock.unlock();
+                }
+            }
+        }
+        Properties manifest = readManifest(dir.resolve(MANIFEST));
+        return new TreeSet<>(toIntSet(manifest.stringPropertyNames())).stream()
+                .map(b -> dir.resolve(exportPartName(b)))
+                .toList();
+    }
+
+    private void refreshExport(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path manifestFile = dir.resolve(MANIFEST);
+        Properties old = readManifest(manifestFile);
+
+        Map<Integer, String> current = new TreeMap<>();
+        for (Object[] row : postRepo.bucketSignatures(POSTS_PER_EXPORT_PART)) {
+            current.put(((Number) row[0]).intValue(), row[1] + "|" + toLocalDateTime(row[2]));
+        }
+
+        int written = 0;
+        for (var e : current.entrySet()) {
+            String key = String.valueOf(e.getKey());
+            if (e.getValue().equals(old.getProperty(key)) && Files.exists(dir.resolve(exportPartName(e.getKey())))) continue;
+            int bucket = e.getKey();
+            inReadTx(() -> writeExportPart(dir, bucket));
+            written++;
+        }
+
+        // manifest 를 먼저 바꾼 뒤 빈 구간 파일 삭제 (목록을 받은 요청이 지워진 파일을 가리키는 구간 최소화)
+        Properties next = new Properties();
+        current.forEach((b, sig) -> next.setProperty(String.valueOf(b), sig));
+        Path tmp = dir.resolve(MANIFEST + ".tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) { next.store(w, null); }
+        Files.move(tmp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (String key : old.stringPropertyNames()) {
+            if (!current.containsKey(Integer.parseInt(key))) Files.deleteIfExists(dir.resolve(exportPartName(Integer.parseInt(key))));
+        }
+        if (written > 0) log.info("export refreshed: {} of {} parts rewritten", written, current.size());
+    }
+
+    private void writeExportPart(Path dir, int bucket) throws IOException {
+        long from = (long) bucket * POSTS_PER_EXPORT_PART;
+        Path target = dir.resolve(exportPartName(bucket));
+        Path tmp = dir.resolve(exportPartName(bucket) + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp), 64 * 1024);
+             JsonGenerator g = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+             Stream<Post> posts = postRepo.streamActive(from, from + POSTS_PER_EXPORT_PART)) {
+            g.setRootValueSeparator(null);
+            Iterator<Post> it = posts.iterator();
+            while (it.hasNext()) {
+                Post p = it.next();
+                g.writeStartObject();
+                g.writeNumberField("id", p.getId());
+                g.writeStringField("categoryCode", p.getCategory().getCode());
+                g.writeStringField("title", p.getTitle());
+                g.writeStringField("content", PostContentCodec.read(p));
+                g.writeStringField("authorNick", p.getAuthorNick());
+                g.writeNumberField("views", p.getViews());
+                g.writeNumberField("likes", p.getLikes());
+                g.writeStringField("createDate", p.getCreateDate() != null ? p.getCreateDate().format(F) : null);
+                g.writeStringField("updateDate", p.getUpdateDate() != null ? p.getUpdateDate().format(F) : null);
+                g.writeEndObject();
+                g.writeRaw('\n');
+                em.detach(p);
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ===================== helpers =====================
+
+    private Path dir() { return Path.of(sitemapDir).toAbsolutePath().normalize(); }
+
+    private Path exportDir() { return Path.of(exportDir).toAbsolutePath().normalize(); }
+
+    private static String partName(int bucket) { return "posts-" + bucket + ".xml"; }
+
+    private static String exportPartName(int bucket) { return "posts-" + bucket + ".ndjson"; }
+
+    // 스트리밍 커서는 트랜잭션 안에서만 (읽기 전용이라 커밋할 것 없음 → 롤백)
+    private void inReadTx(IoWork work) throws IOException {
+        try {
+            tx.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoWork {
+        void run() throws IOException;
+    }
+
+    private static boolean lock(ReentrantLock lock) {
+        lock.lock();
+        return true;
+    }
+
+    private static Properties readManifest(Path file) throws IOException {
+        Properties p = new Properties();
+        if (Files.exists(file)) {
+            try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) { p.load(r); }
+        }
+        return p;
+    }
+
+    private static String w3c(LocalDateTime t) { return t.atZone(ZONE).toOffsetDateTime().format(W3C); }
+
+    private static LocalDateTime toLocalDateTime(Object o) {
+        if (o instanceof LocalDateTime t) return t;
+        if (o instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
+        return null;
+    }
+
+    private static Set<Integer> toIntSet(Set<String> keys) {
+        Set<Integer> out = new HashSet<>();
+        keys.forEach(k -> out.add(Integer.parseInt(k)));
+        return out;
+    }
+}
@@ -0,0 +1,41 @@
+package com.life.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * CLI 이관 모드.
+ *   java -jar app.war --spring.main.web-application-type=none --app.import.file=/data/board.ndjson
+ * 끝나면 컨텍스트를 닫고 종료한다. (실패 시 exit code 1, 같은 명령으로 다시 실행하면 체크포인트부터 재개)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.import", name = "file")
+public class PostImportRunner implements ApplicationRunner {
+
+    private final PostImportService importService;
+    private final ConfigurableApplicationContext ctx;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String file = ctx.getEnvironment().getProperty("app.import.file");
+        int code = 0;
+        try {
+            importService.importFile(Path.of(file));
+        } catch (Exception e) {
+            log.error("import failed: {}", file, e);
+            code = 1;
+        }
+        int exit = code;
+        System.exit(SpringApplication.exit(ctx, () -> exit));
+    }
+}
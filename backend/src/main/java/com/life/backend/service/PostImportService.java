@@ -0,0 +1,360 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.life.backend.entity.Category;
+import com.life.backend.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON 대량 이관 (다른 게시판 → post/comment).
+ *
+ * 한 줄에 하나의 레코드:
+ *   {"type":"post","ref":"boardA-123","categoryCode":"free","title":"..","content":"<p>..</p>",
+ *    "authorNick":"..","createDate":"yyyy-MM-dd HH:mm:ss","views":0,"likes":0}
+ *   {"type":"comment","postRef":"boardA-123","nickname":"..","content":"..","createDate":"..","passwordHash":"$2a$.."}
+ *
+ * - chunk-size 줄 단위로 읽어서 파싱/정제(Jsoup)는 병렬, INSERT 는 JDBC 배치(rewriteBatchedStatements)
+ * - post 의 ref 는 client_req_id(UUID v3)로 저장 → 재실행 시 중복 insert 없음, comment 의 postRef 해석에도 사용
+ * - chunk 커밋 후 체크포인트 파일(<file>.ckpt)에 처리한 줄 수 기록 → 중단 시 그 다음 줄부터 재개
+ * - comment 는 파일명+줄 번호로 만든 import_key 로 저장 (uk_comment_import_key, 중복이면 무시)
+ *   → 커밋 후 체크포인트 전에 중단돼 같은 chunk 를 다시 넣어도 댓글이 두 번 들어가지 않음
+ * - 글이 뒤쪽 chunk 에 나오는 댓글은 <file>.deferred 에 "줄번호\t원본" 으로 모아 두었다가 모든 글을 넣은 뒤 다시 처리
+ *   (그때도 글을 못 찾으면 skipped)
+ * - createDate 가 없으면 지금 시각, 형식이 틀리면 그 줄은 skipped (경고 로그)
+ * - CLI 이관 모드(PostImportRunner)에서만 쓰이므로 @Lazy: 웹 기동 시에는 만들지 않음
+ */
+@Slf4j
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // BCrypt 형식이 아니므로 어떤 비밀번호로도 수정/삭제 불가 (이관 댓글에 해시가 없을 때)
+    private static final String NO_PASSWORD = "!imported";
+
+    private static final String INSERT_POST = """
+        insert into post (client_req_id, category_id, title, content, author_id, author_nick,
+                          views, likes, update_yn, delete_yn, create_date, update_date)
+        values (?, ?, ?, ?, ?, ?, ?, ?, 'N', 'N', ?, ?)
+    """;
+    private static final String INSERT_COMMENT = """
+        insert into comment (post_id, nickname, comment_password_hash, content, import_key,
+                             update_yn, delete_yn, create_date, update_date)
+        values (?, ?, ?, ?, ?, 'N', 'N', ?, ?)
+        on duplicate key update id = id
+    """;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final CategoryRepository categoryRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.import.parallelism:4}")
+    private int parallelism;
+
+    public record Result(long lines, int posts, int comments, int skipped) {}
+
+    // 파일의 한 줄 (no: 1부터 시작하는 원본 줄 번호)
+    private record Line(long no, String text) {}
+
+    // chunk 처리 결과. deferred: 글을 아직 못 찾은 댓글의 원본 줄
+    private record ChunkResult(int posts, int comments, int skipped, List<Line> deferred) {}
+
+    private record PostRow(String clientReqId, Long categoryId, String title, String content,
+                           String authorId, String authorNick, int views, int likes, LocalDateTime createDate) {}
+
+    private record CommentRow(String postReqId, String importKey, String nickname, String passwordHash,
+                              String content, LocalDateTime createDate) {}
+
+    public Result importFile(Path file) throws IOException {
+        Path ckpt = file.resolveSibling(file.getFileName() + ".ckpt");
+        Path deferredFile = file.resolveSibling(file.getFileName() + ".deferred");
+        String source = file.getFileName().toString();
+        long done = readCheckpoint(ckpt);
+        if (done > 0) log.info("import resume: {} from line {}", file, done + 1);
+
+        Map<String, Long> categories = categoryRepo.findAll().stream()
+                .collect(Collectors.toMap(Category::getCode, Category::getId));
+
+        long lineNo = 0;
+        int posts = 0, comments = 0, skipped = 0;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<Line> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= done) continue;
+                chunk.add(new Line(lineNo, line));
+                if (chunk.size() >= chunkSize) {
+                    ChunkResult r = processChunk(source, chunk, categories, pool, false);
+                    posts += r.posts(); comments += r.comments(); skipped += r.skipped();
+                    appendDeferred(deferredFile, r.deferred());   // 체크포인트보다 먼저 (재개 시 잃지 않게)
+                    writeCheckpoint(ckpt, lineNo);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                ChunkResult r = processChunk(source, chunk, categories, pool, false);
+                posts += r.posts(); comments += r.comments(); skipped += r.skipped();
+                appendDeferred(deferredFile, r.deferred());
+                writeCheckpoint(ckpt, lineNo);
+            }
+
+            // 모든 글이 들어간 뒤 보류했던 댓글 처리. chunk 마다 남은 줄로 파일을 갈아끼워 중단돼도 이어서 처리
+            if (Files.exists(deferredFile)) {
+                List<Line> rest = readDeferred(deferredFile);
+                log.info("import: resolving {} deferred comments", rest.size());
+                while (!rest.isEmpty()) {
+                    List<Line> head = rest.subList(0, Math.min(chunkSize, rest.size()));
+                    ChunkResult r = processChunk(source, head, categories, pool, true);
+                    comments += r.comments(); skipped += r.skipped();
+                    rest = new ArrayList<>(rest.subList(head.size(), rest.size()));
+                    writeLines(deferredFile, rest);
+                }
+                Files.deleteIfExists(deferredFile);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        log.info("import done: {} lines, {} posts, {} comments, {} skipped", lineNo, posts, comments, skipped);
+        return new Result(lineNo, posts, comments, skipped);
+    }
+
+    // last=true (보류분 처리): 글을 못 찾은 댓글은 더 미루지 않고 skipped
+    private ChunkResult processChunk(String source, List<Line> lines, Map<String, Long> categories,
+                                     ForkJoinPool pool, boolean last) {
+        List<Object> rows;
+        try {
+            rows = pool.submit(() -> lines.parallelStream().map(l -> parse(source, l, categories)).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("import parse failed", e.getCause());
+        }
+
+        // 같은 ref 가 chunk 안에 두 번 나오면 첫 줄만 (두 번째 insert 는 uk_post_client_req_id 위반 → chunk 전체 롤백)
+        Map<String, PostRow> postRows = new LinkedHashMap<>();
+        List<CommentRow> commentRows = new ArrayList<>();
+        List<Line> commentLines = new ArrayList<>();
+        int skipped = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Object r = rows.get(i);
+            if (r instanceof PostRow p) {
+                if (postRows.putIfAbsent(p.clientReqId(), p) != null) skipped++;
+            } else if (r instanceof CommentRow c) {
+                commentRows.add(c);
+                commentLines.add(lines.get(i));
+            } else {
+                skipped++;
+            }
+        }
+
+        ChunkResult out = tx.execute(status -> {
+            // 1) 이미 들어간 글(client_req_id) 제외 → 재개/재실행 시 중복 방지
+            Set<String> reqIds = new HashSet<>(postRows.keySet());
+            commentRows.forEach(c -> reqIds.add(c.postReqId()));
+            Map<String, Long> ids = findPostIds(reqIds);
+
+            List<PostRow> fresh = postRows.values().stream().filter(p -> !ids.containsKey(p.clientReqId())).toList();
+            insertPosts(fresh, ids);
+
+            // 2) 댓글: 같은 chunk 또는 이전 chunk 에서 들어간 글에만. 나머지는 보류 (마지막 처리에서는 skipped)
+            List<CommentRow> resolvable = new ArrayList<>();
+            List<Line> deferred = new ArrayList<>();
+            for (int i = 0; i < commentRows.size(); i++) {
+                if (ids.containsKey(commentRows.get(i).postReqId())) resolvable.add(commentRows.get(i));
+                else deferred.add(commentLines.get(i));
+            }
+            insertComments(resolvable, ids);
+            return last
+                    ? new ChunkResult(fresh.size(), resolvable.size(), deferred.size(), List.of())
+                    : new ChunkResult(fresh.size(), resolvable.size(), 0, deferred);
+        });
+        return new ChunkResult(out.posts(), out.comments(), skipped + out.skipped(), out.deferred());
+    }
+
+    private Object parse(String source, Line line, Map<String, Long> categories) {
+        if (line.text().isBlank()) return null;
+        try {
+            JsonNode n = objectMapper.readTree(line.text());
+            LocalDateTime createDate = parseDate(n.path("createDate").asText(null));
+            if (createDate == null) {
+                log.warn("import: skip line {}: bad createDate '{}'", line.no(), n.path("createDate").asText());
+                return null;
+            }
+            String type = n.path("type").asText("");
+            if ("post".equals(type)) {
+                String ref = n.path("ref").asText(null);
+                Long catId = categories.get(n.path("categoryCode").asText(""));
+                String title = n.path("title").asText(null);
+                if (ref == null || catId == null || title == null) return null;
+                String nick = n.path("authorNick").asText("익명").trim();
+                return new PostRow(reqIdOf(ref), catId,
+                        title.length() > 120 ? title.substring(0, 120) : title,
+                        Jsoup.clean(n.path("content").asText(""), PostService.TIPTAP_SAFELIST),
+                        "import", nick.isEmpty() ? "익명" : nick,
+                        n.path("views").asInt(0), n.path("likes").asInt(0),
+                        createDate);
+            }
+            if ("comment".equals(type)) {
+                String postRef = n.path("postRef").asText(null);
+                if (postRef == null) return null;
+                String nick = n.path("nickname").asText("익명").trim();
+                return new CommentRow(reqIdOf(postRef), commentKeyOf(source, line.no()), nick.isEmpty() ? "익명" : nick,
+                        n.path("passwordHash").asText(NO_PASSWORD),
+                        Jsoup.clean(n.path("content").asText(""), Safelist.none()),
+                        createDate);
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("import: skip malformed line {}: {}", line.no(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, Long> findPostIds(Set<String> reqIds) {
+        Map<String, Long> ids = new HashMap<>();
+        if (reqIds.isEmpty()) return ids;
+        namedJdbc.query("select id, client_req_id from post where client_req_id in (:ids)",
+                new MapSqlParameterSource("ids", reqIds),
+                rs -> { ids.put(rs.getString(2), rs.getLong(1)); });
+        return ids;
+    }
+
+    private void insertPosts(List<PostRow> rows, Map<String, Long> ids) {
+        if (rows.isEmpty()) return;
+        jdbc.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_POST, Statement.RETURN_GENERATED_KEYS)) {
+                for (PostRow p : rows) {
+                    Timestamp ts = Timestamp.valueOf(p.createDate());
+                    ps.setString(1, p.clientReqId());
+                    ps.setLong(2, p.categoryId());
+                    ps.setString(3, p.title());
+                    ps.setString(4, p.content());
+                    ps.setString(5, p.authorId());
+                    ps.setString(6, p.authorNick());
+                    ps.setInt(7, p.views());
+                    ps.setInt(8, p.likes());
+                    ps.setTimestamp(9, ts);
+                    ps.setTimestamp(10, ts);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                // 배치 순서대로 생성 키가 돌아옴 (rewrite 된 multi-row insert 도 연속 값)
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int i = 0;
+                    while (keys.next() && i < rows.size()) {
+                        ids.put(rows.get(i++).clientReqId(), keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void insertComments(List<CommentRow> rows, Map<String, Long> ids) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate(INSERT_COMMENT, rows, rows.size(), (ps, c) -> {
+            Timestamp ts = Timestamp.valueOf(c.createDate());
+            ps.setLong(1, ids.get(c.postReqId()));
+            ps.setString(2, c.nickname());
+            ps.setString(3, c.passwordHash());
+            ps.setString(4, c.content());
+            ps.setString(5, c.importKey());
+            ps.setTimestamp(6, ts);
+            ps.setTimestamp(7, ts);
+        });
+    }
+
+    // 외부 ref → client_req_id(36자). 같은 ref 는 항상 같은 값
+    static String reqIdOf(String ref) {
+        return UUID.nameUUIDFromBytes(("import:" + ref).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // 이관 댓글의 import_key: 같은 파일의 같은 줄은 항상 같은 값
+    static String commentKeyOf(String source, long lineNo) {
+        return UUID.nameUUIDFromBytes(("import:" + source + ":" + lineNo).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // 없으면 지금 시각, 형식이 틀리면 null (호출 쪽에서 skipped)
+    static LocalDateTime parseDate(String s) {
+        if (s == null || s.isBlank()) return LocalDateTime.now();
+        try { return LocalDateTime.parse(s, F); }
+        catch (DateTimeParseException e) { return null; }
+    }
+
+    private long readCheckpoint(Path ckpt) throws IOException {
+        if (!Files.exists(ckpt)) return 0;
+        String s = Files.readString(ckpt).trim();
+        return s.isEmpty() ? 0 : Long.parseLong(s);
+    }
+
+    // "줄번호\t원본" (JSON 문자열 안의 탭은 이스케이프되므로 첫 탭으로 나눌 수 있음)
+    private void appendDeferred(Path deferredFile, List<Line> lines) throws IOException {
+        if (lines.isEmpty()) return;
+        Files.write(deferredFile, lines.stream().map(l -> l.no() + "\t" + l.text()).toList(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // 보류 기록 후 체크포인트 전에 중단됐으면 같은 줄이 두 번 들어 있음 → 줄 번호로 한 번만 (내용이 같은 다른 줄은 유지)
+    private List<Line> readDeferred(Path deferredFile) throws IOException {
+        Map<Long, Line> byNo = new TreeMap<>();
+        for (String s : Files.readAllLines(deferredFile, StandardCharsets.UTF_8)) {
+            int tab = s.indexOf('\t');
+            if (tab <= 0) continue;
+            long no = Long.parseLong(s.substring(0, tab));
+            byNo.putIfAbsent(no, new Line(no, s.substring(tab + 1)));
+        }
+        return new ArrayList<>(byNo.values());
+    }
+
+    private void writeLines(Path target, List<Line> lines) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(tmp, lines.stream().map(l -> l.no() + "\t" + l.text()).toList(), StandardCharsets.UTF_8);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeCheckpoint(Path ckpt, long lineNo) throws IOException {
+        Path tmp = ckpt.resolveSibling(ckpt.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(lineNo));
+        Files.move(tmp, ckpt, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -1,32 +1,40 @@
 package com.life.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.life.backend.config.ReadYourWrites;
 import com.life.backend.dto.CommentDTO;
 import com.life.backend.dto.PostDTO;
 import com.life.backend.entity.Category;
 import com.life.backend.entity.Comment;
 import com.life.backend.entity.Post;
+import com.life.backend.event.PostChangedEvent;
 import com.life.backend.repository.CategoryRepository;
 import com.life.backend.repository.CommentRepository;
 import com.life.backend.repository.PostRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Safelist;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -41,11 +49,15 @@ public class PostService {
     private final PostRepository postRepo;
     private final CategoryRepository categoryRepo;
     private final CommentRepository commentRepo;
+    private final MeterRegistry meterRegistry;
+    private final ReadYourWrites readYourWrites;
+    private final ApplicationEventPublisher events;
+    private final PostCardJsonCache cardJson;
 
     private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private final PasswordEncoder encoder = new BCryptPasswordEncoder();
 
-    private static final Safelist TIPTAP_SAFELIST = Safelist.relaxed()
+    static final Safelist TIPTAP_SAFELIST = Safelist.relaxed()
             .addTags("img", "video", "h2", "h3", "h4")
             .addAttributes("img", "src", "alt", "style", "width")
             .addAttributes("video", "src", "controls")
@@ -55,10 +67,24 @@ public class PostService {
     @Value("${upload.dir:./uploads}")
     private String uploadDir;
 
+    // true 면 본문을 gzip 으로 저장 (기존 평문 행은 PostContentBackfill 이 변환)
+    @Value("${app.post.compress-content:false}")
+    private boolean compressContent;
+
+    // trending 백필 최소 개수(min) 상한 — 클라이언트가 준 값을 그대로 쓰면 후보 조회량이 무제한
+    @Value("${app.admission.max-min:100}")
+    private int maxTrendingMin;
+
     private static final Pattern SRC_OR_HREF = Pattern.compile("(?i)(?:src|href)=[\"']([^\"']+)[\"']");
 
-    private static final Set<String> ALLOWED_IMAGE = Set.of("image/png", "image/jpeg", "image/gif", "image/webp", "image/svg+xml");
-    private static final Set<String> ALLOWED_VIDEO = Set.of("video/mp4", "video/webm", "video/ogg");
+    public static final int COMMENT_PAGE_SIZE = 50;
+    private static final int COMMENT_PAGE_MAX = 200;
+
+    // 글별 댓글 첫 페이지 캐시 (댓글 등록/수정/삭제 커밋 후 무효화)
+    private final Cache<Long, List<CommentDTO>> firstCommentPage = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
 
     // 기본 목록 (최신순)
     public List<PostDTO> list(String categoryCode, String q, int page, int size) {
@@ -68,7 +94,7 @@ public class PostService {
         }
         var pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
         return fillCommentCounts(
-                postRepo.findList(cat, emptyToNull(q), pageable).stream().map(this::toDTO).toList()
+                postRepo.findList(cat, emptyToNull(q), pageable).stream().map(this::toCard).toList()
         );
     }
 
@@ -78,41 +104,100 @@ public class PostService {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
         if (p.isDeleted()) throw new ResponseStatusException(NOT_FOUND, "삭제된 글입니다.");
         p.setViews(p.getViews() + 1);
-        return toDTO(p);
+        events.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.VIEWED));
+        return fillCommentCounts(List.of(toDTO(p))).get(0);
+    }
+
+    // 본문만 (조회수 증가 없음). 압축 저장된 글은 gzip 바이트를 그대로 돌려줌
+    public record PostContent(byte[] gzip, String html) {}
+
+    public PostContent content(Long id) {
+        var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
+        if (p.isDeleted()) throw new ResponseStatusException(NOT_FOUND, "삭제된 글입니다.");
+        return PostContentCodec.isCompressed(p)
+                ? new PostContent(p.getContentGz(), null)
+                : new PostContent(null, p.getContent());
     }
 
-    // 고급 목록 (베스트, 실시간, 최신)
-    public List<PostDTO> listAdvanced(String categoryCode, String q, int page, int size,
-                                      String sort, String period, int min) {
+    // 카드 1건 (피드 tail / push 용, 조회수 증가 없음)
+    public Optional<PostDTO> card(Long id) {
+        return postRepo.findById(id)
+                .filter(p -> !p.isDeleted())
+                .map(p -> fillCommentCounts(List.of(toCard(p))).get(0));
+    }
+
+    // 피드 시드: 카테고리(없으면 전체) 최신 글 limit 개
+    public List<PostDTO> latestCards(String categoryCode, int limit) {
         Category cat = null;
         if (categoryCode != null && !categoryCode.isBlank()) {
             cat = categoryRepo.findByCode(categoryCode).orElse(null);
+            if (cat == null) return List.of();
         }
-        final var pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        return fillCommentCounts(postRepo.findLatest(cat, null, PageRequest.of(0, limit)).stream().map(this::toCard).toList());
+    }
+
+    // 피드 델타 (DB 경로): 커서보다 새 글
+    public List<PostDTO> newerCards(String categoryCode, String afterDate, Long afterId, int limit) {
+        Category cat = null;
+        if (categoryCode != null && !categoryCode.isBlank()) {
+            cat = categoryRepo.findByCode(categoryCode).orElse(null);
+            if (cat == null) return List.of();
+        }
+        LocalDateTime after;
+        try { after = LocalDateTime.parse(afterDate, F); }
+        catch (Exception e) { throw new ResponseStatusException(BAD_REQUEST, "잘못된 커서입니다."); }
+        return fillCommentCounts(postRepo.findNewerThan(cat, after, afterId, PageRequest.of(0, limit))
+                .stream().map(this::toCard).toList());
+    }
 
-        List<PostDTO> results;
-        sort = (sort == null ? "latest" : sort.toLowerCase());
-
-        switch (sort) {
-            case "best":
-                results = listBest(cat, q, pageable, normalizePeriod(period, "all"));
-                break;
-            case "trending":
-                results = listTrendingWithBackfill(cat, q, pageable, min);
-                break;
-            case "latest":
-            default:
-                results = postRepo.findLatest(cat, emptyToNull(q), pageable).stream().map(this::toDTO).toList();
-                break;
+    // 고급 목록 (베스트, 실시간, 최신) → 카드 JSON 조각(UTF-8). 바뀌지 않은 카드는 캐시된 바이트를 그대로 씀
+    public List<byte[]> listAdvancedJson(String categoryCode, String q, int page, int size,
+                                         String sort, String period, int min) {
+        String mode = normalizeSort(sort);
+        var sample = Timer.start(meterRegistry);
+        var posts = selectList(categoryCode, q, page, size, mode, period, min);
+        var counts = commentCounts(posts.stream().map(Post::getId).toList());
+
+        List<byte[]> out = new ArrayList<>(posts.size());
+        for (Post p : posts) {
+            int commentCount = counts.getOrDefault(p.getId(), 0);
+            out.add(cardJson.fragment(p, commentCount, () -> {
+                var d = toCard(p);
+                d.setCommentCount(commentCount);
+                return d;
+            }));
         }
+        sample.stop(meterRegistry.timer("posts.list", "sort", mode));
+        return out;
+    }
 
-        return fillCommentCounts(results);
+    private static String normalizeSort(String sort) {
+        String s = sort == null ? "latest" : sort.toLowerCase();
+        return switch (s) {
+            case "best", "trending" -> s;
+            default -> "latest";
+        };
+    }
+
+    private List<Post> selectList(String categoryCode, String q, int page, int size,
+                                  String mode, String period, int min) {
+        Category cat = null;
+        if (categoryCode != null && !categoryCode.isBlank()) {
+            cat = categoryRepo.findByCode(categoryCode).orElse(null);
+        }
+        final var pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+
+        return switch (mode) {
+            case "best" -> listBest(cat, q, pageable, normalizePeriod(period, "all"));
+            case "trending" -> listTrendingWithBackfill(cat, q, pageable, min);
+            default -> postRepo.findLatest(cat, emptyToNull(q), pageable);
+        };
     }
 
     // ==========================================================
     // ✅ [수정됨] 베스트: 스킵(Skip) 로직 추가 및 조회 범위 확장
     // ==========================================================
-    private List<PostDTO> listBest(Category cat, String q, Pageable pageable, String period) {
+    private List<Post> listBest(Category cat, String q, Pageable pageable, String period) {
         // period가 null이면 위 함수에 의해 '전체 기간'이 됨
         var since = sinceFromPeriod(period);
 
@@ -125,12 +210,13 @@ public class PostService {
         int fetchLimit = Math.max(limitNeeded + 50, 200); // 넉넉하게 200개 정도 조회 (메모리 정렬용)
 
         var candidates = postRepo.findCandidatesSince(cat, emptyToNull(q), since, PageRequest.of(0, fetchLimit));
+        recordCandidates("best", candidates.size());
 
-        // 메모리 정렬 (좋아요 -> 조회수 -> 최신순)
+        // 메모리 정렬 (좋아요 -> 순방문자 -> 최신순)
         candidates.sort((a, b) -> {
             int c = Integer.compare(b.getLikes(), a.getLikes());
             if (c != 0) return c;
-            c = Integer.compare(b.getViews(), a.getViews());
+            c = Integer.compare(b.getUniqueViews(), a.getUniqueViews());
             if (c != 0) return c;
             return b.getCreateDate().compareTo(a.getCreateDate());
         });
@@ -138,17 +224,16 @@ public class PostService {
         return candidates.stream()
                 .skip(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .map(this::toDTO)
                 .toList();
     }
 
     // ==========================================================
     // ✅ [수정됨] 실시간: 조회 범위(limit)를 페이지에 맞춰 동적으로 확장
     // ==========================================================
-    private List<PostDTO> listTrendingWithBackfill(Category cat, String q, Pageable pageable, int min) {
+    private List<Post> listTrendingWithBackfill(Category cat, String q, Pageable pageable, int min) {
         // 요청한 페이지를 커버하기 위해 필요한 데이터 수
         int limitNeeded = (pageable.getPageNumber() + 1) * pageable.getPageSize();
-        int need = Math.max(min, limitNeeded); // 최소 min개 혹은 페이지 커버 수량
+        int need = Math.max(Math.min(min, maxTrendingMin), limitNeeded); // 최소 min개(상한 있음) 혹은 페이지 커버 수량
 
         // 윈도우 전략: 최근 7일 -> 14일 -> ... 확장하며 후보군 수집
         var windows = List.of("7d", "14d", "30d", "all");
@@ -166,6 +251,8 @@ public class PostService {
                 cand = postRepo.findCandidatesSince(cat, emptyToNull(q), since, PageRequest.of(0, fetchSize));
             }
 
+            recordCandidates("trending", cand.size());
+
             // 점수 계산 후 정렬
             cand.sort((a, b) -> Double.compare(score(b), score(a)));
 
@@ -182,6 +269,7 @@ public class PostService {
         // 백필 (그래도 부족하면 최신순으로 채우기)
         if (picked.size() < limitNeeded + pageable.getPageSize()) {
             var latest = postRepo.findLatest(cat, emptyToNull(q), PageRequest.of(0, fetchSize));
+            recordCandidates("trending", latest.size());
             for (Post p : latest) {
                 if (!picked.contains(p)) picked.add(p);
             }
@@ -191,7 +279,6 @@ public class PostService {
         return picked.stream()
                 .skip(pageable.getOffset()) // 건너뛰기
                 .limit(pageable.getPageSize()) // 자르기
-                .map(this::toDTO)
                 .toList();
     }
 
@@ -199,27 +286,39 @@ public class PostService {
 
     private double score(Post p) {
         double likes = p.getLikes();
-        double views = p.getViews();
+        double views = p.getUniqueViews();   // 새로고침/봇 반복 조회는 빼고 순방문자 기준
         double ageHours = java.time.Duration.between(p.getCreateDate(), now()).toHours();
         double decay = Math.exp(-ageHours / 72.0);
         double recentBoost = (ageHours <= 24.0) ? 3.0 : 0.0;
         return (likes * 2.0 + views * 0.1) * decay + recentBoost;
     }
 
+    // 후보군 크기 (정렬 모드별, 윈도우 조회 1회당 1건)
+    private void recordCandidates(String sort, int size) {
+        DistributionSummary.builder("posts.candidates")
+                .tag("sort", sort)
+                .register(meterRegistry)
+                .record(size);
+    }
+
     private List<PostDTO> fillCommentCounts(List<PostDTO> postList) {
         if (postList.isEmpty()) return postList;
-        List<Long> postIds = postList.stream().map(PostDTO::getId).toList();
-        List<Object[]> counts = commentRepo.countActiveCommentsByPostIds(postIds);
-        Map<Long, Integer> commentCountMap = new HashMap<>();
-        for (Object[] row : counts) {
-            commentCountMap.put((Long) row[0], ((Long) row[1]).intValue());
-        }
+        Map<Long, Integer> commentCountMap = commentCounts(postList.stream().map(PostDTO::getId).toList());
         for (PostDTO dto : postList) {
             dto.setCommentCount(commentCountMap.getOrDefault(dto.getId(), 0));
         }
         return postList;
     }
 
+    private Map<Long, Integer> commentCounts(List<Long> postIds) {
+        Map<Long, Integer> commentCountMap = new HashMap<>();
+        if (postIds.isEmpty()) return commentCountMap;
+        for (Object[] row : commentRepo.countActiveCommentsByPostIds(postIds)) {
+            commentCountMap.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        return commentCountMap;
+    }
+
     private String normalizePeriod(String period, String def) {
         if (period == null || period.isBlank()) return def;
         return switch (period.toLowerCase()) {
@@ -259,45 +358,54 @@ public class PostService {
         p.setClientReqId(in.getClientReqId());
         p.setCategory(cat);
         p.setTitle(in.getTitle());
-        p.setContent(cleanHtml);
+        PostContentCodec.write(p, cleanHtml, compressContent);
         p.setAuthorId("anon");
         p.setAuthorNick(in.getAuthorNick().trim());
         p.setPostPasswordHash(encoder.encode(in.getPassword()));
         p.setUpdateYn("N");
         p.setDeleteYn("N");
-        try { p = postRepo.save(p); }
-        catch (DataIntegrityViolationException e) {
-            var dup = postRepo.findByClientReqId(in.getClientReqId());
-            if (dup.isPresent()) return toDTO(dup.get());
-            throw e;
-        }
+        // 캐시 밖 재전송(다른 인스턴스가 먼저 저장)은 uk_post_client_req_id 위반 → 롤백 후 호출자가 findCreated 로 처리
+        p = postRepo.save(p);
+        readYourWrites.markWrite();
+        events.publishEvent(new PostChangedEvent(p.getId(), PostChangedEvent.Type.CREATED));
         return toDTO(p);
     }
 
+    // clientReqId 로 이미 저장된 글 (create 의 unique 위반 뒤 조회). 복제 지연을 피하려고 primary 에서 읽음 (readOnly 아님)
+    @Transactional
+    public Optional<PostDTO> findCreated(String clientReqId) {
+        if (clientReqId == null || clientReqId.isBlank()) return Optional.empty();
+        return postRepo.findByClientReqId(clientReqId).map(this::toDTO);
+    }
+
     @Transactional
     public PostDTO update(Long id, PostDTO in) {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
         if (p.isDeleted()) throw new ResponseStatusException(NOT_FOUND, "삭제된 글입니다.");
         verifyPostPassword(p, in.getPassword());
-        String oldHtml = p.getContent();
+        String oldHtml = PostContentCodec.read(p);
         String cleanHtml = Jsoup.clean(in.getContent(), TIPTAP_SAFELIST);
         if (in.getTitle() != null) p.setTitle(in.getTitle());
         if (cleanHtml != null) {
-            p.setContent(cleanHtml);
+            PostContentCodec.write(p, cleanHtml, compressContent);
             p.setUpdateYn("Y");
             var before = extractUploadPaths(oldHtml);
             var after = extractUploadPaths(cleanHtml);
             before.removeAll(after);
             before.forEach(this::safeDelete);
         }
+        readYourWrites.markWrite();
+        events.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.UPDATED));
         return toDTO(p);
     }
     @Transactional
     public void delete(Long id, String password) {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
         verifyPostPassword(p, password);
-        extractUploadPaths(p.getContent()).forEach(this::safeDelete);
+        extractUploadPaths(PostContentCodec.read(p)).forEach(this::safeDelete);
         p.setDeleteYn("Y");
+        readYourWrites.markWrite();
+        events.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.DELETED));
     }
     public void verify(Long id, String password) {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
@@ -308,6 +416,7 @@ public class PostService {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
         if (p.isDeleted()) throw new ResponseStatusException(NOT_FOUND, "삭제된 글입니다.");
         p.setLikes(p.getLikes() + 1);
+        events.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.LIKED));
         return p.getLikes();
     }
     @Transactional
@@ -315,11 +424,33 @@ public class PostService {
         var p = postRepo.findById(id).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
         if (p.isDeleted()) throw new ResponseStatusException(NOT_FOUND, "삭제된 글입니다.");
         p.setLikes(Math.max(0, p.getLikes() - 1));
+        events.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.LIKED));
         return p.getLikes();
     }
-    public List<CommentDTO> listComments(Long postId) {
-        var p = postRepo.findById(postId).orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다."));
-        return commentRepo.findActiveByPost(p).stream().map(this::toDTO).toList();
+    // 댓글 목록 (createDate, id) 커서 기반. after 없으면 첫 페이지
+    // afterDate 는 CommentDTO.cursor (마이크로초까지). 초 단위 형식도 받지만 같은 초의 댓글이 겹칠 수 있음
+    public List<CommentDTO> listComments(Long postId, String afterDate, Long afterId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), COMMENT_PAGE_MAX);
+        boolean firstPage = afterDate == null || afterDate.isBlank() || afterId == null;
+        if (firstPage && pageSize == COMMENT_PAGE_SIZE) {
+            var cached = firstCommentPage.getIfPresent(postId);
+            if (cached != null) return cached;
+        }
+        if (!postRepo.existsById(postId)) throw new ResponseStatusException(NOT_FOUND, "글을 찾을 수 없습니다.");
+
+        var pageable = PageRequest.of(0, pageSize);
+        List<Comment> rows;
+        if (firstPage) {
+            rows = commentRepo.findActivePage(postId, pageable);
+        } else {
+            LocalDateTime after;
+            try { after = parseCursor(afterDate); }
+            catch (Exception e) { throw new ResponseStatusException(BAD_REQUEST, "잘못된 커서입니다."); }
+            rows = commentRepo.findActivePageAfter(postId, after, afterId, pageable);
+        }
+        List<CommentDTO> out = rows.stream().map(this::toDTO).toList();
+        if (firstPage && pageSize == COMMENT_PAGE_SIZE) firstCommentPage.put(postId, out);
+        return out;
     }
     @Transactional
     public CommentDTO createComment(Long postId, CommentDTO in) {
@@ -336,6 +467,9 @@ public class PostService {
         c.setUpdateYn("N");
         c.setDeleteYn("N");
         c = commentRepo.save(c);
+        readYourWrites.markWrite();
+        evictCommentsAfterCommit(postId);
+        events.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED));
         return toDTO(c);
     }
     @Transactional
@@ -348,6 +482,8 @@ public class PostService {
             c.setContent(Jsoup.clean(in.getContent(), Safelist.none()));
             c.setUpdateYn("Y");
         }
+        readYourWrites.markWrite();
+        evictCommentsAfterCommit(postId);
         return toDTO(c);
     }
     @Transactional
@@ -356,30 +492,59 @@ public class PostService {
         if (!c.getPost().getId().equals(postId)) throw new ResponseStatusException(BAD_REQUEST, "잘못된 요청입니다.");
         verifyCommentPassword(c, password);
         c.setDeleteYn("Y");
+        readYourWrites.markWrite();
+        evictCommentsAfterCommit(postId);
+        events.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED));
+    }
+    // 커밋 전에 지우면 동시 조회가 옛 목록을 다시 캐시할 수 있으므로 커밋 후 무효화
+    private void evictCommentsAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            firstCommentPage.invalidate(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { firstCommentPage.invalidate(postId); }
+        });
     }
     private void verifyPostPassword(Post p, String raw) {
         if (p.getPostPasswordHash() == null) throw new ResponseStatusException(UNAUTHORIZED, "비밀번호 미설정");
-        if (raw == null || raw.isBlank() || !encoder.matches(raw, p.getPostPasswordHash()))
+        if (raw == null || raw.isBlank() || !passwordMatches(raw, p.getPostPasswordHash()))
             throw new ResponseStatusException(UNAUTHORIZED, "비밀번호 불일치");
     }
     private void verifyCommentPassword(Comment c, String raw) {
-        if (raw == null || raw.isBlank() || !encoder.matches(raw, c.getCommentPasswordHash()))
+        if (raw == null || raw.isBlank() || !passwordMatches(raw, c.getCommentPasswordHash()))
             throw new ResponseStatusException(UNAUTHORIZED, "비밀번호 불일치");
     }
+    // BCrypt 검증 시간 (password.verify)
+    private boolean passwordMatches(String raw, String hash) {
+        return meterRegistry.timer("password.verify").record(() -> encoder.matches(raw, hash));
+    }
     private String emptyToNull(String s) { return (s == null || s.isBlank()) ? null : s; }
+    private static LocalDateTime parseCursor(String s) {
+        return s.indexOf('T') >= 0 ? LocalDateTime.parse(s, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : LocalDateTime.parse(s, F);
+    }
     private PostDTO toDTO(Post p) {
+        return toDTO(p, PostContentCodec.read(p));
+    }
+    // 목록/피드 카드: 압축 본문은 풀지 않고 미리보기만 (카드마다 gunzip 하지 않게)
+    private PostDTO toCard(Post p) {
+        return toDTO(p, PostContentCodec.preview(p));
+    }
+    private PostDTO toDTO(Post p, String content) {
         var d = new PostDTO();
         d.setId(p.getId());
         d.setClientReqId(p.getClientReqId());
         d.setCategoryCode(p.getCategory() != null ? p.getCategory().getCode() : null);
         d.setCategoryName(p.getCategory() != null ? p.getCategory().getName() : null);
         d.setTitle(p.getTitle());
-        d.setContent(p.getContent());
+        d.setContent(content);
         d.setAuthorId(p.getAuthorId());
         d.setAuthorNick(p.getAuthorNick());
         d.setCreateDate(p.getCreateDate() != null ? p.getCreateDate().format(F) : null);
         d.setUpdateDate(p.getUpdateDate() != null ? p.getUpdateDate().format(F) : null);
         d.setViews(p.getViews());
+        d.setUniqueViews(p.getUniqueViews());
         d.setLikes(p.getLikes());
         d.setUpdateYn(p.getUpdateYn());
         d.setDeleteYn(p.getDeleteYn());
@@ -392,41 +557,12 @@ public class PostService {
         d.setNickname(c.getNickname());
         d.setContent(c.getContent());
         d.setCreateDate(c.getCreateDate() != null ? c.getCreateDate().format(F) : null);
+        d.setCursor(c.getCreateDate() != null ? c.getCreateDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null);
         d.setUpdateDate(c.getUpdateDate() != null ? c.getUpdateDate().format(F) : null);
         d.setUpdateYn(c.getUpdateYn());
         d.setDeleteYn(c.getDeleteYn());
         return d;
     }
-    @Transactional
-    public UploadResult upload(MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) throw new ResponseStatusException(BAD_REQUEST, "빈 파일");
-
-        String ct = file.getContentType();
-        if (ct == null || (!ALLOWED_IMAGE.contains(ct) && !ALLOWED_VIDEO.contains(ct)))
-            throw new ResponseStatusException(BAD_REQUEST, "허용되지 않는 형식");
-
-        Path root = Path.of(uploadDir).toAbsolutePath().normalize();
-        LocalDate today = LocalDate.now();
-
-        // ✅ [수정됨] 날짜 폴더 형식을 "yyyyMMdd" (예: 20251210) 한 단계로 변경
-        String dateFolder = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        Path dir = root.resolve(dateFolder);
-
-        Files.createDirectories(dir); // 해당 폴더가 없으면 생성
-
-        String ext = "";
-        String original = file.getOriginalFilename();
-        if (original != null && original.lastIndexOf('.') >= 0) {
-            ext = original.substring(original.lastIndexOf('.')).toLowerCase();
-        }
-
-        String stored = UUID.randomUUID().toString().replace("-", "") + ext;
-        file.transferTo(dir.resolve(stored));
-
-        return new UploadResult("/uploads/" + dateFolder + "/" + stored, original, file.getSize(), ct);
-    }
-
-    public record UploadResult(String url, String originalName, long size, String contentType) {}
     private Path uploadsRoot() { return Path.of(uploadDir).toAbsolutePath().normalize(); }
     private Set<Path> extractUploadPaths(String html) {
         if (html == null || html.isBlank()) return Set.of();
@@ -0,0 +1,91 @@
+package com.life.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.life.backend.event.PostChangedEvent;
+import com.life.backend.repository.CommentRepository;
+import com.life.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/조회수/댓글 수 변경을 STOMP 로 push (클라이언트 폴링 대체).
+ *   /topic/posts/{id}/stats : 해당 글의 바뀐 필드만 {id, likes?, views?, commentCount?}
+ *   /topic/posts/stats      : 이번 주기에 바뀐 글 전체 목록 (홈/목록 화면용)
+ * 변경 이벤트는 글 id 만 모아 두고, push-interval-ms 마다 한 번 DB 에서 현재 값을 읽어
+ * 직전에 보낸 값과 다른 필드만 보낸다 → 인기글에 요청이 몰려도 글당 주기당 최대 1건.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostStatsPublisher {
+
+    private static final int FLUSH_CHUNK = 500;
+
+    private final PostRepository postRepo;
+    private final CommentRepository commentRepo;
+    private final SimpMessagingTemplate messaging;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // 마지막으로 보낸 값 {likes, views, commentCount}
+    private final Cache<Long, int[]> lastSent = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        switch (e.type()) {
+            case VIEWED, LIKED, COMMENTED -> dirty.add(e.postId());
+            default -> { }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.push-interval-ms:1000}")
+    @Transactional(readOnly = true)
+    public void flush() {
+        if (dirty.isEmpty()) return;
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        List<Map<String, Object>> feed = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += FLUSH_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + FLUSH_CHUNK));
+
+            Map<Long, Integer> comments = new HashMap<>();
+            for (Object[] row : commentRepo.countActiveCommentsByPostIds(chunk)) {
+                comments.put((Long) row[0], ((Long) row[1]).intValue());
+            }
+            for (Object[] row : postRepo.findCounters(chunk)) {
+                Long id = (Long) row[0];
+                int[] now = {(Integer) row[1], (Integer) row[2], comments.getOrDefault(id, 0)};
+                Map<String, Object> diff = diff(id, lastSent.getIfPresent(id), now);
+                if (diff == null) continue;
+                lastSent.put(id, now);
+                messaging.convertAndSend("/topic/posts/" + id + "/stats", diff);
+                feed.add(diff);
+            }
+        }
+        if (!feed.isEmpty()) messaging.convertAndSend("/topic/posts/stats", feed);
+    }
+
+    private Map<String, Object> diff(Long id, int[] before, int[] now) {
+        Map<String, Object> d = new LinkedHashMap<>();
+        d.put("id", id);
+        if (before == null || before[0] != now[0]) d.put("likes", now[0]);
+        if (before == null || before[1] != now[1]) d.put("views", now[1]);
+        if (before == null || before[2] != now[2]) d.put("commentCount", now[2]);
+        return d.size() > 1 ? d : null;
+    }
+}
@@ -0,0 +1,180 @@
+package com.life.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.life.backend.dto.PostDTO;
+import com.life.backend.event.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * "새 글" 피드 델타 동기화.
+ * 카테고리별(""=전체) 최근 글 카드 tail-size 개를 메모리에 유지하고,
+ * 클라이언트가 가진 가장 새 글의 (createDate, id) 이후 카드만 돌려준다.
+ * 커서가 tail 보다 오래됐으면 DB 로 fallback.
+ * 새 글은 커밋 후 /topic/posts/new, /topic/posts/new/{categoryCode} 로도 push.
+ */
+@Slf4j
+@Service
+public class RecentPostFeed {
+
+    private static final String ALL = "";
+
+    private final PostService postService;
+    private final SimpMessagingTemplate messaging;
+    private final int tailSize;
+    private final Cache<String, Tail> tails;
+
+    public RecentPostFeed(PostService postService,
+                          SimpMessagingTemplate messaging,
+                          @Value("${app.feed.tail-size:200}") int tailSize) {
+        this.postService = postService;
+        this.messaging = messaging;
+        this.tailSize = tailSize;
+        this.tails = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    public List<PostDTO> since(String categoryCode, String afterDate, Long afterId, int limit) {
+        String key = categoryCode == null ? ALL : categoryCode.trim();
+        int max = Math.min(Math.max(limit, 1), 100);
+        if (afterDate == null || afterDate.isBlank() || afterId == null) {
+            return tail(key).newest(max);
+        }
+        var hit = tail(key).since(afterDate, afterId, max);
+        return hit != null ? hit : postService.newerCards(key, afterDate, afterId, max);
+    }
+
+    // 빈 tail 을 먼저 넣고 채우기는 캐시 밖에서 → 채우는 동안 커밋된 새 글도 getIfPresent 로 찾아서 붙일 수 있음.
+    // (로더 안에서 DB 를 읽으면 그동안 getIfPresent/computeIfPresent 가 null 이라 그 글이 tail 에서 빠짐)
+    private Tail tail(String key) {
+        Tail t = tails.get(key, k -> new Tail(tailSize));
+        t.seed(() -> postService.latestCards(key, tailSize));
+        return t;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        switch (e.type()) {
+            case CREATED -> postService.card(e.postId()).ifPresent(this::append);
+            case UPDATED -> postService.card(e.postId()).ifPresent(this::replace);
+            case DELETED -> tails.asMap().values().forEach(t -> t.remove(e.postId()));
+            default -> { }
+        }
+    }
+
+    private void append(PostDTO card) {
+        var all = tails.getIfPresent(ALL);
+        if (all != null) all.add(card);
+        if (card.getCategoryCode() != null) {
+            var cat = tails.getIfPresent(card.getCategoryCode());
+            if (cat != null) cat.add(card);
+        }
+        messaging.convertAndSend("/topic/posts/new", card);
+        if (card.getCategoryCode() != null) messaging.convertAndSend("/topic/posts/new/" + card.getCategoryCode(), card);
+    }
+
+    private void replace(PostDTO card) {
+        tails.asMap().values().forEach(t -> t.replace(card));
+    }
+
+    /** 최신순 카드 목록. 잠금 구간은 메모리 연산뿐 */
+    static final class Tail {
+        private static final Comparator<PostDTO> NEWEST_FIRST =
+                Comparator.comparing(PostDTO::getCreateDate).thenComparing(PostDTO::getId).reversed();
+
+        private final ArrayDeque<PostDTO> cards;   // head = 가장 새 글
+        private final int capacity;
+        private final Object seedLock = new Object();
+        private volatile boolean seeded;
+
+        Tail(List<PostDTO> newestFirst, int capacity) {
+            this.cards = new ArrayDeque<>(newestFirst);
+            this.capacity = capacity;
+            this.seeded = true;
+        }
+
+        /** 아직 DB 에서 채우지 않은 빈 tail. 그 사이 add 된 카드는 seed 때 합쳐짐 */
+        Tail(int capacity) {
+            this.cards = new ArrayDeque<>();
+            this.capacity = capacity;
+        }
+
+        // 한 번만 DB 조회 (같은 tail 의 다른 요청은 기다림). 조회는 이 객체 잠금 밖이라 그동안의 add 를 막지 않음
+        void seed(Supplier<List<PostDTO>> loader) {
+            if (seeded) return;
+            synchronized (seedLock) {
+                if (seeded) return;
+                List<PostDTO> loaded = loader.get();
+                synchronized (this) {
+                    Map<Long, PostDTO> byId = new LinkedHashMap<>();
+                    for (PostDTO c : loaded) byId.put(c.getId(), c);
+                    for (PostDTO c : cards) byId.put(c.getId(), c);   // 이벤트로 받은 쪽이 더 최신
+                    List<PostDTO> merged = new ArrayList<>(byId.values());
+                    merged.sort(NEWEST_FIRST);
+                    cards.clear();
+                    for (int i = 0; i < Math.min(merged.size(), capacity); i++) cards.addLast(merged.get(i));
+                    seeded = true;
+                }
+            }
+        }
+
+        synchronized void add(PostDTO card) {
+            cards.removeIf(c -> c.getId().equals(card.getId()));
+            cards.addFirst(card);
+            while (cards.size() > capacity) cards.removeLast();
+        }
+
+        synchronized void replace(PostDTO card) {
+            List<PostDTO> copy = new ArrayList<>(cards);
+            boolean found = false;
+            for (int i = 0; i < copy.size(); i++) {
+                if (copy.get(i).getId().equals(card.getId())) { copy.set(i, card); found = true; }
+            }
+            if (found) { cards.clear(); cards.addAll(copy); }
+        }
+
+        synchronized void remove(Long id) {
+            cards.removeIf(c -> c.getId().equals(id));
+        }
+
+        synchronized List<PostDTO> newest(int limit) {
+            List<PostDTO> out = new ArrayList<>(Math.min(limit, cards.size()));
+            for (Iterator<PostDTO> it = cards.iterator(); it.hasNext() && out.size() < limit; ) out.add(it.next());
+            return out;
+        }
+
+        // 커서 이후 카드 (최신순). tail 이 커서까지 덮지 못하면 null → DB 조회
+        synchronized List<PostDTO> since(String afterDate, Long afterId, int limit) {
+            List<PostDTO> out = new ArrayList<>();
+            boolean reachedCursor = false;
+            for (PostDTO c : cards) {
+                if (!isNewer(c, afterDate, afterId)) { reachedCursor = true; break; }
+                out.add(c);
+            }
+            if (!reachedCursor && cards.size() >= capacity) return null;
+            // 가장 오래된 쪽(커서 바로 다음)부터 limit 개 → 클라이언트가 이어서 다시 요청
+            return out.size() > limit ? out.subList(out.size() - limit, out.size()) : out;
+        }
+
+        private static boolean isNewer(PostDTO c, String afterDate, Long afterId) {
+            int cmp = c.getCreateDate().compareTo(afterDate);
+            return cmp > 0 || (cmp == 0 && c.getId() > afterId);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.life.backend.service;
+
+import com.life.backend.dto.SuggestDTO;
+import com.life.backend.event.PostChangedEvent;
+import com.life.backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 글 제목 자동완성 (DB 조회 없이 메모리 trie 에서 응답).
+ *
+ * 제목은 소문자 + 글자/숫자만 남기고 한글 음절은 자모로 풀어서 (닭 → ㄷㅏㄹㄱ, 과 → ㄱㅗㅏ) 색인 →
+ * 입력 중인 "달", "고" 같은 조합 중간 상태도 prefix 로 매칭된다.
+ * 초성 키(인생 망한 → ㅇㅅㅁㅎ)도 같은 trie 에 넣는다. 단어 시작 위치마다 키를 만들어 중간 단어로도 검색.
+ * 노드마다 인기순 top-K 글 id 만 들고 있어서 조회는 prefix 길이만큼 내려가는 게 전부.
+ *
+ * 생성/수정/좋아요/삭제 이벤트는 해당 글 키 경로만 갱신하고, 삭제/점수 하락으로 빈 top-K 자리는
+ * 주기적 재구성(rebuild-interval-ms)에서 채운다.
+ */
+@Slf4j
+@Service
+public class TitleSuggestIndex {
+
+    private static final int MAX_WORDS = 6;    // 제목당 단어 시작 키 최대 개수
+    private static final int MAX_DEPTH = 24;   // 키 최대 길이(자모 기준)
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 단독으로 입력된 겹자모(호환 자모)도 같은 방식으로 풀기
+    private static final Map<Character, String> COMPAT_SPLIT = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private record Entry(long id, String title, String categoryName, long score, List<String> keys) {}
+
+    private final PostRepository postRepo;
+    private final TransactionTemplate tx;
+    private final int topK;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    // 재구성 중 들어온 변경은 새 trie 로 교체한 뒤 다시 반영
+    private volatile boolean rebuilding;
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public TitleSuggestIndex(PostRepository postRepo,
+                             TransactionTemplate tx,
+                             @Value("${app.suggest.top-k:10}") int topK) {
+        this.postRepo = postRepo;
+        this.tx = tx;
+        this.topK = topK;
+    }
+
+    // ===================== 조회 =====================
+
+    public List<SuggestDTO> suggest(String q, int limit) {
+        String key = normalize(q);
+        if (key.isEmpty()) return List.of();
+        int n = Math.max(1, Math.min(limit, topK));
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) node = node.child(key.charAt(i));
+            if (node == null) return List.of();
+
+            List<SuggestDTO> out = new ArrayList<>(Math.min(n, node.size));
+            for (int i = 0; i < node.size && out.size() < n; i++) {
+                Entry e = entries.get(node.top[i]);
+                if (e != null) out.add(new SuggestDTO(e.id(), e.title(), e.categoryName()));
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===================== 갱신 =====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        switch (e.type()) {
+            case CREATED, UPDATED, LIKED -> refresh(e.postId());
+            case DELETED -> remove(e.postId());
+            default -> { }   // 조회수는 재구성 때 반영 (이벤트가 너무 잦음)
+        }
+        if (rebuilding) touchedDuringRebuild.add(e.postId());
+    }
+
+    private void refresh(Long id) {
+        postRepo.findSuggestRow(id).ifPresentOrElse(r -> {
+            Entry next = entry(r);
+            lock.writeLock().lock();
+            try {
+                Entry prev = entries.put(next.id(), next);
+                if (prev != null && !prev.keys().equals(next.keys())) unlink(root, prev);
+                link(root, next, entries);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }, () -> remove(id));
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry prev = entries.remove(id);
+            if (prev != null) unlink(root, prev);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // 새 trie 를 잠금 밖에서 만든 뒤 한 번에 교체 (조회는 재구성 중에도 기존 trie 로 응답)
+    @Scheduled(initialDelayString = "${app.suggest.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${app.suggest.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long t0 = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            Node nextRoot = new Node();
+            Map<Long, Entry> nextEntries = new HashMap<>();
+            tx.executeWithoutResult(status -> {
+                status.setRollbackOnly();   // 읽기 전용 (스트리밍 커서는 트랜잭션 안에서만)
+                try (var rows = postRepo.streamSuggestRows()) {
+                    rows.forEach(r -> {
+                        Entry e = entry(r);
+                        nextEntries.put(e.id(), e);
+                        link(nextRoot, e, nextEntries);
+                    });
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                root = nextRoot;
+                entries = nextEntries;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception ex) {
+            log.error("title suggest rebuild failed", ex);
+        } finally {
+            rebuilding = false;
+        }
+
+        List<Long> replay = new ArrayList<>(touchedDuringRebuild);
+        touchedDuringRebuild.removeAll(replay);
+        replay.forEach(this::refresh);
+        log.info("title suggest index: {} posts in {}ms", entries.size(), System.currentTimeMillis() - t0);
+    }
+
+    private static Entry entry(PostRepository.SuggestRow r) {
+        return new Entry(r.getId(), r.getTitle(), r.getCategoryName(),
+                (long) r.getLikes() * 10 + r.getViews(), keys(r.getTitle()));
+    }
+
+    // 키 경로의 각 노드 top-K 에 글을 넣거나 순서만 다시 맞춤
+    private void link(Node root, Entry e, Map<Long, Entry> entries) {
+        for (String key : e.keys()) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(e, entries, topK);
+            }
+        }
+    }
+
+    private static void unlink(Node root, Entry e) {
+        for (String key : e.keys()) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) node.drop(e.id());
+            }
+        }
+    }
+
+    // ===================== 정규화 =====================
+
+    /** 검색어 → 자모 키 (초성만 입력해도 초성 키와 그대로 매칭됨) */
+    static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder();
+        appendJamo(s, 0, sb, MAX_DEPTH);
+        return sb.toString();
+    }
+
+    /** 단어 시작마다 자모 키 + 초성 키 */
+    static List<String> keys(String title) {
+        if (title == null || title.isBlank()) return List.of();
+        Set<String> keys = new LinkedHashSet<>();
+        int words = 0;
+        for (int i = 0; i < title.length() && words < MAX_WORDS; i++) {
+            boolean start = Character.isLetterOrDigit(title.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(title.charAt(i - 1)));
+            if (!start) continue;
+            words++;
+
+            StringBuilder jamo = new StringBuilder();
+            appendJamo(title, i, jamo, MAX_DEPTH);
+            if (!jamo.isEmpty()) keys.add(jamo.toString());
+
+            StringBuilder cho = new StringBuilder();
+            appendChosung(title, i, cho, MAX_DEPTH);
+            if (cho.length() > 1) keys.add(cho.toString());   // 한 글자 초성은 자모 키 prefix 와 같음
+        }
+        return List.copyOf(keys);
+    }
+
+    private static void appendJamo(String s, int from, StringBuilder sb, int max) {
+        for (int i = from; i < s.length() && sb.length() < max; i++) {
+            char c = s.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int idx = c - 0xAC00;
+                sb.append(CHO.charAt(idx / 588)).append(JUNG[(idx % 588) / 28]).append(JONG[idx % 28]);
+            } else if (COMPAT_SPLIT.containsKey(c)) {
+                sb.append(COMPAT_SPLIT.get(c));
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        if (sb.length() > max) sb.setLength(max);
+    }
+
+    private static void appendChosung(String s, int from, StringBuilder sb, int max) {
+        for (int i = from; i < s.length() && sb.length() < max; i++) {
+            char c = s.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) sb.append(CHO.charAt((c - 0xAC00) / 588));
+            else if (Character.isLetterOrDigit(c)) sb.append(Character.toLowerCase(c));
+        }
+    }
+
+    // ===================== trie 노드 =====================
+
+    /** 자식은 정렬된 char[] + 배열 (HashMap 보다 작음), top 은 점수 내림차순 글 id */
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_KIDS = new Node[0];
+
+        char[] keys = NO_KEYS;
+        Node[] kids = NO_KIDS;
+        long[] top;
+        int size;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? kids[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return kids[i];
+            int at = -i - 1;
+            char[] k = new char[keys.length + 1];
+            Node[] n = new Node[kids.length + 1];
+            System.arraycopy(keys, 0, k, 0, at);
+            System.arraycopy(kids, 0, n, 0, at);
+            System.arraycopy(keys, at, k, at + 1, keys.length - at);
+            System.arraycopy(kids, at, n, at + 1, kids.length - at);
+            k[at] = c;
+            n[at] = new Node();
+            keys = k;
+            kids = n;
+            return n[at];
+        }
+
+        void offer(Entry e, Map<Long, Entry> entries, int k) {
+            if (top == null) top = new long[k];
+            int pos = indexOf(e.id());
+            if (pos < 0) {
+                if (size < k) pos = size++;
+                else if (score(top[size - 1], entries) < e.score()) pos = size - 1;
+                else return;
+                top[pos] = e.id();
+            }
+            // pos 위치 하나만 어긋났으므로 삽입 정렬 한 번으로 충분
+            for (; pos > 0 && score(top[pos - 1], entries) < score(top[pos], entries); pos--) swap(pos - 1, pos);
+            for (; pos < size - 1 && score(top[pos + 1], entries) > score(top[pos], entries); pos++) swap(pos, pos + 1);
+        }
+
+        void drop(long id) {
+            int pos = indexOf(id);
+            if (pos < 0) return;
+            System.arraycopy(top, pos + 1, top, pos, size - pos - 1);
+            size--;
+        }
+
+        private int indexOf(long id) {
+            for (int i = 0; i < size; i++) if (top[i] == id) return i;
+            return -1;
+        }
+
+        private void swap(int a, int b) {
+            long t = top[a];
+            top[a] = top[b];
+            top[b] = t;
+        }
+
+        private static long score(long id, Map<Long, Entry> entries) {
+            Entry e = entries.get(id);
+            return e != null ? e.score() : Long.MIN_VALUE;
+        }
+    }
+}
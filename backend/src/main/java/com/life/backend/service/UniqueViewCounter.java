@@ -0,0 +1,156 @@
+package com.life.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.life.backend.event.PostChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 글별 순방문자 수 (HyperLogLog, 글당 4KB).
+ *
+ * 조회 시 방문자 지문을 메모리 스케치에 넣기만 하고 (DB 쓰기 없음), 레지스터가 바뀐 글만 dirty 로 표시.
+ * checkpoint-interval-ms 마다 dirty 글의 스케치를 DB(post_view_sketch) 값과 레지스터 max 로 병합해 저장하고
+ * 추정치를 post.unique_views 에 반영 → 트렌딩/베스트 점수는 이 값을 사용.
+ * 메모리에서 밀려난 dirty 스케치는 다음 체크포인트까지 pending 에 보관.
+ */
+@Slf4j
+@Service
+public class UniqueViewCounter {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int CHUNK = 200;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final LoadingCache<Long, HyperLogLog> sketches;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public UniqueViewCounter(JdbcTemplate jdbc,
+                             TransactionTemplate tx,
+                             @Value("${app.views.sketch-cache-size:8192}") long cacheSize) {
+        this.jdbc = jdbc;
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        this.tx = tx;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(cacheSize)   // 글당 4KB → 기본 32MB
+                .evictionListener((Long id, HyperLogLog h, RemovalCause cause) -> {
+                    if (id != null && h != null && dirty.contains(id)) pending.put(id, h);
+                })
+                .build(this::load);
+    }
+
+    public void record(long postId, long visitorHash) {
+        if (sketches.get(postId).add(visitorHash)) dirty.add(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PostChangedEvent e) {
+        if (e.type() != PostChangedEvent.Type.DELETED) return;
+        dirty.remove(e.postId());
+        pending.remove(e.postId());
+        sketches.invalidate(e.postId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        List<Long> ids = new ArrayList<>(dirty);
+        if (ids.isEmpty()) return;
+        dirty.removeAll(ids);
+
+        for (int from = 0; from < ids.size(); from += CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK));
+            Map<Long, HyperLogLog> batch = new HashMap<>();
+            for (Long id : chunk) {
+                HyperLogLog h = pending.remove(id);
+                if (h == null) h = sketches.getIfPresent(id);
+                if (h != null) batch.put(id, h);
+            }
+            try {
+                tx.executeWithoutResult(status -> save(batch));
+            } catch (Exception ex) {
+                log.warn("unique view checkpoint failed ({} posts), retrying next round", batch.size(), ex);
+                batch.forEach((id, h) -> {
+                    if (sketches.getIfPresent(id) == null) pending.put(id, h);
+                    dirty.add(id);
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    // DB 값과 병합 (다른 인스턴스가 쓴 레지스터도 유지) → upsert + unique_views 갱신
+    // 저장된 스케치는 한 번에 for update 로 읽음 → 같은 글을 동시에 체크포인트하는 인스턴스끼리 읽기-병합-쓰기가 겹치지 않음
+    // (둘 다 아직 행이 없는 글이면 교착으로 한쪽이 실패할 수 있음 → checkpoint 가 다음 주기에 재시도)
+    private void save(Map<Long, HyperLogLog> batch) {
+        if (batch.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        Collections.sort(ids);   // 잠금 순서 고정
+        Map<Long, byte[]> stored = new HashMap<>();
+        namedJdbc.query("select post_id, registers from post_view_sketch where post_id in (:ids) order by post_id for update",
+                new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    byte[] r = rs.getBytes(2);
+                    if (r != null && r.length == HyperLogLog.M) stored.put(rs.getLong(1), r);
+                });
+
+        List<Object[]> sketchRows = new ArrayList<>(ids.size());
+        List<Object[]> counts = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            HyperLogLog merged = new HyperLogLog(batch.get(id).toBytes());
+            byte[] prev = stored.get(id);
+            if (prev != null) merged.merge(prev);
+            sketchRows.add(new Object[]{id, merged.toBytes(), now});
+            counts.add(new Object[]{merged.estimate(), id});
+        }
+        jdbc.batchUpdate("""
+            insert into post_view_sketch (post_id, registers, update_date) values (?, ?, ?)
+            on duplicate key update registers = values(registers), update_date = values(update_date)
+        """, sketchRows);
+        jdbc.batchUpdate("update post set unique_views = ? where id = ?", counts);
+    }
+
+    // 밀려났다가 아직 저장 안 된 스케치(pending)가 있으면 합쳐서 올림
+    // → 다음 체크포인트는 캐시의 이 스케치만 저장하므로 pending 쪽 방문자도 빠지지 않음
+    private HyperLogLog load(Long postId) {
+        byte[] stored = stored(postId);
+        HyperLogLog h = stored != null ? new HyperLogLog(stored) : new HyperLogLog();
+        HyperLogLog evicted = pending.remove(postId);
+        if (evicted != null) h.merge(evicted.toBytes());
+        return h;
+    }
+
+    private byte[] stored(long postId) {
+        List<byte[]> rows = jdbc.query("select registers from post_view_sketch where post_id = ?",
+                (rs, i) -> rs.getBytes(1), postId);
+        byte[] r = rows.isEmpty() ? null : rows.get(0);
+        return r != null && r.length == HyperLogLog.M ? r : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.life.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * 에디터 이미지/동영상 업로드.
+ * 기동에 필요 없는 빈이라 @Lazy: 첫 업로드 요청 때 생성 (컨트롤러는 ObjectProvider 로 받음).
+ * 업로드 파일 정리(글 수정/삭제 시)는 PostService 가 upload.dir 기준으로 처리.
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private static final Set<String> ALLOWED_IMAGE = Set.of("image/png", "image/jpeg", "image/gif", "image/webp", "image/svg+xml");
+    private static final Set<String> ALLOWED_VIDEO = Set.of("video/mp4", "video/webm", "video/ogg");
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${upload.dir:./uploads}")
+    private String uploadDir;
+
+    public UploadResult upload(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) throw new ResponseStatusException(BAD_REQUEST, "빈 파일");
+
+        String ct = file.getContentType();
+        if (ct == null || (!ALLOWED_IMAGE.contains(ct) && !ALLOWED_VIDEO.contains(ct)))
+            throw new ResponseStatusException(BAD_REQUEST, "허용되지 않는 형식");
+
+        Path root = Path.of(uploadDir).toAbsolutePath().normalize();
+        LocalDate today = LocalDate.now();
+
+        // 날짜 폴더 형식은 "yyyyMMdd" (예: 20251210) 한 단계
+        String dateFolder = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        Path dir = root.resolve(dateFolder);
+
+        Files.createDirectories(dir); // 해당 폴더가 없으면 생성
+
+        String ext = "";
+        String original = file.getOriginalFilename();
+        if (original != null && original.lastIndexOf('.') >= 0) {
+            ext = original.substring(original.lastIndexOf('.')).toLowerCase();
+        }
+
+        String stored = UUID.randomUUID().toString().replace("-", "") + ext;
+        file.transferTo(dir.resolve(stored));
+        Counter.builder("upload.bytes")
+                .baseUnit("bytes")
+                .tag("kind", ALLOWED_IMAGE.contains(ct) ? "image" : "video")
+                .register(meterRegistry)
+                .increment(file.getSize());
+
+        return new UploadResult("/uploads/" + dateFolder + "/" + stored, original, file.getSize(), ct);
+    }
+
+    public record UploadResult(String url, String originalName, long size, String contentType) {}
+}
@@ -0,0 +1,196 @@
+package com.life.backend.web;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃바운드 STOMP 프레임 묶음 전송.
+ * 텍스트 메시지는 바로 보내지 않고 쌓아 두었다가 windowMs 안에 들어온 것들을 WebSocket 메시지 하나로 보냄
+ * (STOMP 프레임은 NULL 로 끝나므로 이어 붙여도 클라이언트 파서가 그대로 나눔). 순서는 도착 순서 그대로.
+ * maxBatchChars 를 넘으면 즉시 전송, bufferLimitChars 를 넘게 밀리면(느린 클라이언트) 세션을 닫는다.
+ *
+ * SubProtocolWebSocketHandler 가 씌우는 ConcurrentWebSocketSessionDecorator 는 이 세션 바깥이라
+ * (여기 sendMessage 는 쌓기만 하고 바로 리턴) 그쪽 send-time/buffer 제한이 실제 전송에는 걸리지 않음 → 여기서 직접 적용:
+ * - 전송은 한 스레드만 (sendLock.tryLock). 다른 스레드는 기다리지 않고 돌아가고, 보내던 스레드가 남은 것까지 이어서 비움
+ *   → 느린 클라이언트 하나가 공용 배치 스레드를 여러 개 붙잡지 않음
+ * - 한 번의 전송이 sendTimeLimitMs 를 넘기고 있으면 다음 송신/flush 시점에 세션을 닫음 (막힌 쓰기도 close 로 풀림)
+ */
+public class BatchingWebSocketSession extends WebSocketSessionDecorator {
+
+    private final ScheduledExecutorService scheduler;
+    private final long windowMs;
+    private final int maxBatchChars;
+    private final int bufferLimitChars;
+    private final long sendTimeLimitMs;
+
+    private final ReentrantLock bufferLock = new ReentrantLock();   // pending / scheduled
+    private final ReentrantLock sendLock = new ReentrantLock();     // 실제 전송 직렬화 (I/O 포함)
+    private final StringBuilder pending = new StringBuilder();
+    private boolean scheduled;
+    private volatile long sendStartMs;   // 0: 보내는 중 아님
+
+    public BatchingWebSocketSession(WebSocketSession delegate, ScheduledExecutorService scheduler,
+                                    long windowMs, int maxBatchChars, int bufferLimitChars, long sendTimeLimitMs) {
+        super(delegate);
+        this.scheduler = scheduler;
+        this.windowMs = windowMs;
+        this.maxBatchChars = maxBatchChars;
+        this.bufferLimitChars = bufferLimitChars;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!(message instanceof TextMessage text)) {
+            // 바이너리/ping 등은 앞서 쌓인 프레임 뒤에 바로 (전송 중이면 제한 시간까지만 기다림)
+            if (!lockForSend()) {
+                closeSlow();
+                return;
+            }
+            try {
+                flushLocked();
+                send(message);
+            } finally {
+                sendLock.unlock();
+            }
+            return;
+        }
+
+        boolean flushNow;
+        boolean overflow;
+        bufferLock.lock();
+        try {
+            pending.append(text.getPayload());
+            overflow = pending.length() > bufferLimitChars;
+            flushNow = !overflow && pending.length() >= maxBatchChars;
+            if (!overflow && !flushNow && !scheduled) {
+                scheduled = true;
+                scheduler.schedule(this::flushQuietly, windowMs, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (overflow) {
+            closeSlow();
+        } else if (flushNow) {
+            flush();
+        } else {
+            checkSendTime();
+        }
+    }
+
+    // 닫기 직전 프레임(ERROR 등)이 버퍼에 남지 않게 먼저 비움
+    @Override
+    public void close() throws IOException {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        if (lockForSend()) {
+            try {
+                flushLocked();
+            } catch (IOException ignore) {
+            } finally {
+                sendLock.unlock();
+            }
+        }
+        super.close(status);
+    }
+
+    /** 쌓인 프레임 전송. 다른 스레드가 보내는 중이면 기다리지 않음 (그 스레드가 이어서 비움) */
+    public void flush() throws IOException {
+        do {
+            if (!sendLock.tryLock()) {
+                checkSendTime();
+                return;
+            }
+            try {
+                flushLocked();
+            } finally {
+                sendLock.unlock();
+            }
+        } while (hasPending());   // 락을 놓기 직전에 쌓인 것 (tryLock 에 실패한 쪽은 그냥 돌아갔으므로)
+    }
+
+    private void flushLocked() throws IOException {
+        String batch;
+        bufferLock.lock();
+        try {
+            scheduled = false;
+            if (pending.isEmpty()) return;
+            batch = pending.toString();
+            pending.setLength(0);
+        } finally {
+            bufferLock.unlock();
+        }
+        if (isOpen()) send(new TextMessage(batch));
+    }
+
+    private void send(WebSocketMessage<?> message) throws IOException {
+        sendStartMs = System.currentTimeMillis();
+        try {
+            getDelegate().sendMessage(message);
+        } finally {
+            sendStartMs = 0;
+        }
+    }
+
+    private boolean lockForSend() {
+        try {
+            return sendLock.tryLock(sendTimeLimitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 한 번의 전송이 제한 시간을 넘기고 있으면 느린 클라이언트로 보고 닫음
+    private void checkSendTime() {
+        long start = sendStartMs;
+        if (start != 0 && System.currentTimeMillis() - start > sendTimeLimitMs) closeSlow();
+    }
+
+    private boolean hasPending() {
+        bufferLock.lock();
+        try {
+            return !pending.isEmpty();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            closeSlow();
+        }
+    }
+
+    private void closeSlow() {
+        discard();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception ignore) {
+        }
+    }
+
+    private void discard() {
+        bufferLock.lock();
+        try {
+            pending.setLength(0);
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.life.backend.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좋아요 중복 방지 / 순방문자 집계용 클라이언트 식별 (서버가 발급한 id 만 인정).
+ *
+ * - X-Client-Id 는 "id.서명" 형식. 서명(HMAC-SHA256)이 맞는 값만 식별자로 쓴다 → 임의 값 위조 불가
+ * - 없거나 틀리면 새 id 를 발급해 응답 헤더 X-Client-Id 로 내려줌 (프론트가 저장해 다음 요청에 실어 보냄)
+ * - 발급은 IP 당 max-issue-per-hour 까지. 넘으면 IP 하나를 한 클라이언트로 취급
+ *   → 요청마다 새 id 를 받아 쓰는 스크립트도 IP 당 시간당 그 수 이상은 못 늘림
+ * secret 이 비어 있으면 기동 시 임의 생성 (인스턴스가 여러 대면 같은 값을 줘야 서로의 id 를 인정함).
+ */
+@Slf4j
+@Component
+public class ClientIdentity {
+
+    public static final String HEADER = "X-Client-Id";
+    private static final int ID_BYTES = 16;
+    private static final int SIG_BYTES = 12;
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+    private final int maxIssuePerHour;
+    private final Cache<String, AtomicInteger> issuedPerIp = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public ClientIdentity(@Value("${app.client-id.secret:}") String secret,
+                          @Value("${app.client-id.max-issue-per-hour:20}") int maxIssuePerHour) {
+        byte[] k;
+        if (secret == null || secret.isBlank()) {
+            k = new byte[32];
+            random.nextBytes(k);
+            log.warn("app.client-id.secret is not set; client ids are valid on this instance only until restart");
+        } else {
+            k = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(k, "HmacSHA256");
+        this.maxIssuePerHour = maxIssuePerHour;
+    }
+
+    /** 요청한 클라이언트의 64bit 지문. 필요하면 새 id 를 발급해 응답 헤더에 싣는다 */
+    public long fingerprint(HttpServletRequest req, HttpServletResponse res) {
+        String id = verify(req.getHeader(HEADER));
+        if (id != null) return ClientKeys.hash("c:" + id);
+
+        String ip = ClientKeys.ip(req);
+        AtomicInteger issued = issuedPerIp.get(ip, k -> new AtomicInteger());
+        if (issued.incrementAndGet() > maxIssuePerHour) return ClientKeys.hash("a:" + ip);
+
+        id = newId();
+        res.setHeader(HEADER, id + "." + sign(id));
+        return ClientKeys.hash("c:" + id);
+    }
+
+    // "id.서명" 이 맞으면 id, 아니면 null
+    String verify(String token) {
+        if (token == null || token.length() > 64) return null;
+        int dot = token.indexOf('.');
+        if (dot <= 0) return null;
+        String id = token.substring(0, dot);
+        byte[] expected = sign(id).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? id : null;
+    }
+
+    private String newId() {
+        byte[] b = new byte[ID_BYTES];
+        random.nextBytes(b);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(b);
+    }
+
+    private String sign(String id) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] full = mac.doFinal(id.getBytes(StandardCharsets.US_ASCII));
+            byte[] sig = new byte[SIG_BYTES];
+            System.arraycopy(full, 0, sig, 0, SIG_BYTES);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(sig);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.life.backend.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청한 클라이언트 식별 (remoteAddr).
+ * 프록시 뒤에서는 server.forward-headers-strategy=native 로 Tomcat RemoteIpValve 가 신뢰 프록시
+ * (server.tomcat.remoteip.internal-proxies)에서 온 X-Forwarded-For 만 remoteAddr 에 반영한다.
+ * 클라이언트가 직접 보낸 X-Forwarded-For 를 여기서 읽으면 헤더만 바꿔 IP 별 제한을 우회할 수 있음.
+ * hash: 클라이언트 키 → 64bit 지문 (키 발급/검증은 ClientIdentity).
+ */
+public final class ClientKeys {
+
+    private ClientKeys() {
+    }
+
+    public static String ip(HttpServletRequest req) {
+        return req.getRemoteAddr();
+    }
+
+    /** 문자열 키 → 64bit 지문 */
+    public static long hash(String key) {
+        long h = 0xcbf29ce484222325L;   // FNV-1a 64
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;                  // murmur3 fmix64 로 하위 비트까지 고르게 (HyperLogLog 는 상위 비트도 씀)
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,76 @@
+package com.life.backend.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * virtual thread 모드 전용: /api/** 동시 처리 수를 커넥션 풀 크기에 맞춰 제한.
+ * 스레드 풀 상한이 사라지면 요청이 전부 Hikari 대기열로 몰리므로,
+ * 여기서 잠깐 기다리다(db-acquire-timeout-ms) 안 되면 503 으로 빨리 돌려준다.
+ * DB 를 안 쓰는 요청(캐시 파일 스트리밍, 메모리 자동완성/접속자, 업로드)은 제외:
+ * 느린 다운로드가 허가를 오래 잡고 있으면 나머지 API 가 전부 503 이 되므로.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DbConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // 캐시 파일 / 메모리만 읽는 경로
+    private static final Set<String> DB_FREE = Set.of(
+            "/api/posts/export.ndjson",
+            "/api/posts/suggest",
+            "/api/posts/uploads",
+            "/api/chat/presence");
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    public DbConcurrencyLimitFilter(@Value("${app.virtual-threads.db-concurrency-limit:10}") int limit,
+                                    @Value("${app.virtual-threads.db-acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                                    MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(Math.max(1, limit), true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.startsWith("/api/sitemap/") || DB_FREE.contains(uri);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            meterRegistry.counter("http.server.rejected", "reason", "db-concurrency").increment();
+            res.setHeader("Retry-After", "1");
+            res.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "서버가 혼잡합니다.");
+            return;
+        }
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.life.backend.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비싼 목록 모드(GET /api/posts?sort=best|trending) 입장 제어.
+ *
+ * - 비용 추정: 페이지 깊이·min 으로 PostService 가 읽을 후보 행 수를 계산 → max-rows 초과는 400 으로 바로 거절,
+ *   나머지는 200행당 1 단위(cost)로 환산
+ * - 클라이언트(IP)별 동시 비싼 요청 수 per-client-limit 초과 → 429
+ * - 전체 동시 비용 상한은 AIMD 로 조정: 비용 단위당 처리 시간이 target-latency-ms 를 넘으면 상한을 줄이고(×0.9),
+ *   여유 있으면 천천히 늘림(+1/limit). 상한을 넘는 요청은 기다리지 않고 503
+ * latest 등 싼 요청은 통과 (최신 목록은 인덱스 한 번이면 끝).
+ */
+@Component
+public class ListAdmissionFilter extends OncePerRequestFilter {
+
+    private static final int ROWS_PER_UNIT = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxMin;
+    private final int maxRows;
+    private final int perClientLimit;
+    private final long targetLatencyMs;
+    private final double minLimit;
+    private final double maxLimit;
+
+    private final ConcurrentHashMap<String, Integer> perClient = new ConcurrentHashMap<>();
+    private int inflight;          // 진행 중인 비용 단위 합 (this 로 보호)
+    private double limit;          // 현재 허용 비용 단위 상한 (this 로 보호)
+
+    public ListAdmissionFilter(MeterRegistry meterRegistry,
+                               @Value("${app.admission.max-min:100}") int maxMin,
+                               @Value("${app.admission.max-rows:12000}") int maxRows,
+                               @Value("${app.admission.per-client-limit:2}") int perClientLimit,
+                               @Value("${app.admission.target-latency-ms:300}") long targetLatencyMs,
+                               @Value("${app.admission.initial-limit:16}") int initialLimit,
+                               @Value("${app.admission.max-limit:64}") int maxLimit) {
+        this.meterRegistry = meterRegistry;
+        this.maxMin = maxMin;
+        this.maxRows = maxRows;
+        this.perClientLimit = perClientLimit;
+        this.targetLatencyMs = targetLatencyMs;
+        this.minLimit = 2;
+        this.maxLimit = Math.max(maxLimit, 2);
+        this.limit = Math.min(Math.max(initialLimit, 2), this.maxLimit);
+        meterRegistry.gauge("posts.list.admission.limit", this, f -> f.currentLimit());
+        meterRegistry.gauge("posts.list.admission.inflight", this, f -> f.currentInflight());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        if (!"GET".equals(req.getMethod()) || !"/api/posts".equals(req.getRequestURI())) return true;
+        String sort = req.getParameter("sort");
+        return !"best".equalsIgnoreCase(sort) && !"trending".equalsIgnoreCase(sort);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        int rows = estimateRows(req);
+        if (rows > maxRows) {
+            reject(res, HttpServletResponse.SC_BAD_REQUEST, "cost", "요청한 페이지 범위가 너무 큽니다.");
+            return;
+        }
+        int cost = Math.max(1, (rows + ROWS_PER_UNIT - 1) / ROWS_PER_UNIT);
+
+        String client = ClientKeys.ip(req);
+        if (perClient.merge(client, 1, Integer::sum) > perClientLimit) {
+            releaseClient(client);
+            reject(res, 429, "per-client", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        try {
+            if (!tryAdmit(cost)) {
+                reject(res, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "overload", "서버가 혼잡합니다.");
+                return;
+            }
+            long t0 = System.nanoTime();
+            try {
+                chain.doFilter(req, res);
+            } finally {
+                complete(cost, (System.nanoTime() - t0) / 1_000_000);
+            }
+        } finally {
+            releaseClient(client);
+        }
+    }
+
+    // PostService.listBest / listTrendingWithBackfill 이 읽는 후보 행 수 (trending 은 윈도우 4개 최악값)
+    private int estimateRows(HttpServletRequest req) {
+        int page = Math.max(intParam(req, "page", 0), 0);
+        int size = Math.min(Math.max(intParam(req, "size", 12), 1), 100);
+        long needed = (long) (page + 1) * size;
+        if ("best".equalsIgnoreCase(req.getParameter("sort"))) {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(needed + 50, 200));
+        }
+        long need = Math.max(Math.min(intParam(req, "min", 12), maxMin), needed);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(need * 3, 100) * 4);
+    }
+
+    // 아무것도 안 돌고 있으면 비용이 커도 하나는 받음 (상한보다 큰 요청이 영원히 거절되지 않게)
+    synchronized boolean tryAdmit(int cost) {
+        if (inflight > 0 && inflight + cost > limit) return false;
+        inflight += cost;
+        return true;
+    }
+
+    synchronized void complete(int cost, long elapsedMs) {
+        boolean saturated = inflight > limit * 0.8;   // 상한 근처까지 쓰고 있을 때만 늘림
+        inflight -= cost;
+        if (elapsedMs / cost > targetLatencyMs) {
+            limit = Math.max(minLimit, limit * 0.9);
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    synchronized double currentLimit() {
+        return limit;
+    }
+
+    private synchronized double currentInflight() {
+        return inflight;
+    }
+
+    private void releaseClient(String client) {
+        perClient.computeIfPresent(client, (k, n) -> n > 1 ? n - 1 : null);
+    }
+
+    private void reject(HttpServletResponse res, int status, String reason, String message) throws IOException {
+        meterRegistry.counter("http.server.rejected", "reason", "list-" + reason).increment();
+        if (status != HttpServletResponse.SC_BAD_REQUEST) res.setHeader("Retry-After", "1");
+        res.sendError(status, message);
+    }
+
+    private static int intParam(HttpServletRequest req, String name, int def) {
+        String v = req.getParameter(name);
+        if (v == null || v.isBlank()) return def;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
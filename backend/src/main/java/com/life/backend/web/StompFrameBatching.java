@@ -0,0 +1,62 @@
+package com.life.backend.web;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * STOMP 세션마다 BatchingWebSocketSession 을 씌움 (WebSocketConfig.configureWebSocketTransport 에서 등록).
+ * 세션 교체는 연결 시점에만 하면 됨: SubProtocolWebSocketHandler 가 이후 송신에 이 세션을 계속 사용.
+ * batch-window-ms <= 0 이면 그대로 통과.
+ * 바깥 ConcurrentWebSocketSessionDecorator 대신 전송 시간/버퍼 제한은 BatchingWebSocketSession 이 직접 적용
+ * (send-time-limit-ms / buffer-limit-chars).
+ */
+@Component
+public class StompFrameBatching implements WebSocketHandlerDecoratorFactory, DisposableBean {
+
+    private final long windowMs;
+    private final int maxBatchChars;
+    private final int bufferLimitChars;
+    private final long sendTimeLimitMs;
+    private final ScheduledExecutorService scheduler;
+
+    public StompFrameBatching(@Value("${app.chat.ws.batch-window-ms:5}") long windowMs,
+                              @Value("${app.chat.ws.batch-max-chars:16384}") int maxBatchChars,
+                              @Value("${app.chat.ws.buffer-limit-chars:524288}") int bufferLimitChars,
+                              @Value("${app.chat.ws.send-time-limit-ms:10000}") long sendTimeLimitMs) {
+        this.windowMs = windowMs;
+        this.maxBatchChars = maxBatchChars;
+        this.bufferLimitChars = bufferLimitChars;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+            Thread t = new Thread(r, "stomp-batch");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (windowMs <= 0) return handler;
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(
+                        new BatchingWebSocketSession(session, scheduler, windowMs, maxBatchChars, bufferLimitChars,
+                                sendTimeLimitMs));
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
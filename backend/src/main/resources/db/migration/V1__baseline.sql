@@ -0,0 +1,63 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto: update 로 운영 DB 에 만들어져 있던 그대로.
+-- 기존 DB 는 baseline-version 1 로 이 파일을 건너뛰고, 빈 DB 만 여기부터 적용.
+-- 이후 스키마 변경은 V2__*.sql 부터 추가하고, 엔티티와 같이 커밋
+
+CREATE TABLE category (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    code        VARCHAR(32)  NOT NULL,
+    name        VARCHAR(32)  NOT NULL,
+    create_date DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    update_date DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_category_code (code)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    client_req_id      VARCHAR(36)  NULL,
+    category_id        BIGINT       NOT NULL,
+    title              VARCHAR(120) NOT NULL,
+    content            MEDIUMTEXT   NOT NULL,
+    author_id          VARCHAR(64)  NOT NULL,
+    author_nick        VARCHAR(64)  NOT NULL,
+    views              INT          NOT NULL DEFAULT 0,
+    likes              INT          NOT NULL DEFAULT 0,
+    post_password_hash VARCHAR(255) NULL,
+    update_yn          CHAR(1)      NOT NULL DEFAULT 'N',
+    delete_yn          CHAR(1)      NOT NULL DEFAULT 'N',
+    create_date        DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    update_date        DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_post_client_req_id (client_req_id),
+    KEY idx_cat_date (category_id, create_date),
+    KEY idx_date (create_date),
+    KEY idx_author (author_id),
+    CONSTRAINT fk_post_category FOREIGN KEY (category_id) REFERENCES category (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comment (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id               BIGINT       NOT NULL,
+    nickname              VARCHAR(64)  NOT NULL,
+    comment_password_hash VARCHAR(255) NOT NULL,
+    content               LONGTEXT     NOT NULL,
+    update_yn             CHAR(1)      NOT NULL DEFAULT 'N',
+    delete_yn             CHAR(1)      NOT NULL DEFAULT 'N',
+    create_date           DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    update_date           DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    KEY idx_post_date (post_id, create_date),
+    CONSTRAINT fk_comment_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- app.chat.partitioning.enabled=true 이면 ChatRetentionService 가 기동 후 월 단위 파티션으로 전환 (PK → (id, create_date))
+CREATE TABLE chat_message (
+    id          VARCHAR(36) NOT NULL,
+    sender_id   VARCHAR(64) NOT NULL,
+    nickname    VARCHAR(64) NOT NULL,
+    text        LONGTEXT    NOT NULL,
+    create_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_create_date (create_date),
+    KEY idx_sender (sender_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,55 @@
+-- 압축 본문 / 본문 검색용 평문 / 순방문자 / 아카이브 대상 탐색 인덱스, 아카이브·순방문자 스케치 테이블
+-- (ADD COLUMN 은 MySQL 에 IF NOT EXISTS 가 없음: 이미 ddl-auto 로 이 컬럼들이 생긴 개발 DB 는 다시 만들거나 수동으로 맞출 것)
+
+ALTER TABLE post
+    ADD COLUMN content_gz    MEDIUMBLOB NULL AFTER content,
+    ADD COLUMN content_codec VARCHAR(16) NULL AFTER content_gz,
+    ADD COLUMN search_text   MEDIUMTEXT NULL AFTER content_codec,
+    ADD COLUMN unique_views  INT        NOT NULL DEFAULT 0 AFTER likes,
+    ADD KEY idx_del_upd (delete_yn, update_date);
+
+ALTER TABLE comment
+    ADD KEY idx_del_upd (delete_yn, update_date);
+
+CREATE TABLE post_archive (
+    id            BIGINT       NOT NULL,
+    client_req_id VARCHAR(36)  NULL,
+    category_id   BIGINT       NOT NULL,
+    title         VARCHAR(120) NOT NULL,
+    content       MEDIUMTEXT   NOT NULL,
+    content_gz    MEDIUMBLOB   NULL,
+    content_codec VARCHAR(16)  NULL,
+    author_id     VARCHAR(64)  NOT NULL,
+    author_nick   VARCHAR(64)  NOT NULL,
+    views         INT          NOT NULL,
+    likes         INT          NOT NULL,
+    update_yn     CHAR(1)      NOT NULL,
+    delete_yn     CHAR(1)      NOT NULL,
+    create_date   DATETIME(6)  NOT NULL,
+    update_date   DATETIME(6)  NOT NULL,
+    archived_date DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_pa_archived (archived_date),
+    KEY idx_pa_author (author_nick)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comment_archive (
+    id            BIGINT      NOT NULL,
+    post_id       BIGINT      NOT NULL,
+    nickname      VARCHAR(64) NOT NULL,
+    content       LONGTEXT    NOT NULL,
+    update_yn     CHAR(1)     NOT NULL,
+    delete_yn     CHAR(1)     NOT NULL,
+    create_date   DATETIME(6) NOT NULL,
+    update_date   DATETIME(6) NOT NULL,
+    archived_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_ca_post_date (post_id, create_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_view_sketch (
+    post_id     BIGINT      NOT NULL,
+    registers   BLOB        NOT NULL,
+    update_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
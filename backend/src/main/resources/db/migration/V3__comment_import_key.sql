@@ -0,0 +1,4 @@
+-- 이관 댓글 멱등 키 (PostImportService: 원본 파일+줄 번호). 일반 댓글은 null
+ALTER TABLE comment
+    ADD COLUMN import_key VARCHAR(36) NULL AFTER content,
+    ADD UNIQUE KEY uk_comment_import_key (import_key);
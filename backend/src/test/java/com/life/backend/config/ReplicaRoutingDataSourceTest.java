@@ -0,0 +1,84 @@
+package com.life.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 임베디드 H2 두 개(primary / replica)로 라우팅 확인
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        routing = new ReplicaRoutingDataSource(h2("primary"), List.of(h2("replica")),
+                ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, new ReadYourWrites(5));
+        jdbc = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        assertEquals("primary", whoami());
+    }
+
+    @Test
+    void readOnlyGoesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica", whoami());
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimary() {
+        var ryw = new ReadYourWrites(5);
+        routing = new ReplicaRoutingDataSource(h2("primary"), List.of(h2("replica")),
+                ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, ryw);
+        jdbc = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+
+        ryw.markWrite();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("primary", whoami());
+    }
+
+    @Test
+    void laggingReplicaFailsOverToPrimary() {
+        routing.checkLag("select 999 as Seconds_Behind_Source", 5);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("primary", whoami());
+
+        routing.checkLag("select 0 as Seconds_Behind_Source", 5);
+        assertEquals("replica", whoami());
+    }
+
+    private String whoami() {
+        return jdbc.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        var ds = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var t = new JdbcTemplate(ds);
+        t.execute("create table if not exists node(name varchar(16))");
+        t.execute("delete from node");
+        t.update("insert into node(name) values (?)", name);
+        return ds;
+    }
+}
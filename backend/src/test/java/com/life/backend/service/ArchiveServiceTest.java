@@ -0,0 +1,103 @@
+package com.life.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 보존 기간 지난 삭제 글/댓글만 배치 단위로 *_archive 로 이동 (batch-size 2, 휴식 없음)
+class ArchiveServiceTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(60);
+    private static final LocalDateTime RECENT = LocalDateTime.now().minusDays(1);
+
+    private JdbcTemplate jdbc;
+    private ArchiveService svc;
+    private SimpleMeterRegistry meters;
+
+    @BeforeEach
+    void setUp() {
+        var ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:archive-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(ds);
+        String postCols = """
+            id bigint primary key, client_req_id varchar(36), category_id bigint, title varchar(120),
+            content clob, content_gz blob, content_codec varchar(16), author_id varchar(64), author_nick varchar(64),
+            views int, likes int, update_yn char(1), delete_yn char(1), create_date timestamp, update_date timestamp""";
+        String commentCols = """
+            id bigint primary key, post_id bigint not null, nickname varchar(64), content clob,
+            update_yn char(1), delete_yn char(1), create_date timestamp, update_date timestamp""";
+        jdbc.execute("create table post (" + postCols + ")");
+        jdbc.execute("create table comment (" + commentCols + ", comment_password_hash varchar(255),"
+                + " foreign key (post_id) references post(id))");
+        jdbc.execute("create table post_archive (" + postCols + ", archived_date timestamp)");
+        jdbc.execute("create table comment_archive (" + commentCols + ", archived_date timestamp)");
+
+        meters = new SimpleMeterRegistry();
+        svc = new ArchiveService(jdbc, new NamedParameterJdbcTemplate(jdbc),
+                new TransactionTemplate(new DataSourceTransactionManager(ds)), meters);
+        ReflectionTestUtils.setField(svc, "retentionDays", 30);
+        ReflectionTestUtils.setField(svc, "batchSize", 2);
+        ReflectionTestUtils.setField(svc, "pauseMs", 0L);
+        ReflectionTestUtils.setField(svc, "maxBatches", 500);
+    }
+
+    @Test
+    void movesOnlyExpiredDeletedRowsInBatches() {
+        for (long id = 1; id <= 5; id++) post(id, "Y", OLD);    // 만료된 삭제 글 5 → 배치 3번
+        post(6, "Y", RECENT);                                   // 아직 보존 기간
+        post(7, "N", OLD);                                      // 삭제 안 됨
+        comment(1, 1, "N", OLD);                                // 옮겨지는 글의 댓글은 상태와 관계없이 같이
+        comment(2, 7, "Y", OLD);
+        comment(3, 7, "Y", RECENT);
+        comment(4, 7, "N", OLD);
+
+        svc.archive();
+
+        assertEquals(List.of(6L, 7L), ids("post"));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids("post_archive"));
+        assertEquals(List.of(3L, 4L), ids("comment"));
+        assertEquals(List.of(1L, 2L), ids("comment_archive"));
+        assertEquals(5.0, meters.counter("archive.rows", "table", "post").count());
+        assertEquals(2.0, meters.counter("archive.rows", "table", "comment").count());
+    }
+
+    @Test
+    void stopsAfterMaxBatches() {
+        for (long id = 1; id <= 5; id++) post(id, "Y", OLD);
+        ReflectionTestUtils.setField(svc, "maxBatches", 2);
+
+        svc.archive();
+        assertEquals(List.of(5L), ids("post"));   // 남은 건 다음 실행
+
+        svc.archive();
+        assertEquals(List.of(), ids("post"));
+    }
+
+    private void post(long id, String deleteYn, LocalDateTime updateDate) {
+        jdbc.update("""
+            insert into post (id, category_id, title, content, views, likes, update_yn, delete_yn, create_date, update_date)
+            values (?, 1, 't', 'c', 0, 0, 'N', ?, ?, ?)""", id, deleteYn, updateDate, updateDate);
+    }
+
+    private void comment(long id, long postId, String deleteYn, LocalDateTime updateDate) {
+        jdbc.update("""
+            insert into comment (id, post_id, nickname, content, comment_password_hash, update_yn, delete_yn, create_date, update_date)
+            values (?, ?, 'n', 'c', 'hash', 'N', ?, ?, ?)""", id, postId, deleteYn, updateDate, updateDate);
+    }
+
+    private List<Long> ids(String table) {
+        return jdbc.queryForList("select id from " + table + " order by id", Long.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.life.backend.service;
+
+import com.life.backend.dto.PresenceDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// CONNECT 만으로는 안 세고 채팅 토픽 구독 때 셈 / 탭 여러 개는 한 사용자 / 중복 해제 / 바뀐 경우만 방송
+class ChatPresenceServiceTest {
+
+    private SimpMessagingTemplate messaging;
+    private ChatPresenceService presence;
+
+    @BeforeEach
+    void setUp() {
+        messaging = mock(SimpMessagingTemplate.class);
+        presence = new ChatPresenceService(messaging, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(presence, "maxNicknames", 2);
+    }
+
+    @Test
+    void connectAloneIsNotCounted() {
+        connect("s1", "u1", "하나");
+        subscribe("s1", "/topic/posts/1/stats");   // 글 통계만 보는 세션
+        presence.flush();
+
+        assertEquals(PresenceDTO.EMPTY, presence.current());
+    }
+
+    @Test
+    void chatSubscriptionCountsSessionOnce() {
+        connect("s1", "u1", "하나");
+        subscribe("s1", "/topic/public");
+        subscribe("s1", "/topic/presence");
+        presence.flush();
+
+        assertEquals(new PresenceDTO(1, 1, List.of("하나")), presence.current());
+    }
+
+    @Test
+    void tabsOfSameUserCountAsOneUser() {
+        connect("s1", "u1", "하나");
+        connect("s2", "u1", "하나");
+        connect("s3", "u2", "둘");
+        for (String s : List.of("s1", "s2", "s3")) subscribe(s, "/topic/public");
+        presence.flush();
+
+        PresenceDTO p = presence.current();
+        assertEquals(2, p.online());
+        assertEquals(3, p.sessions());
+
+        disconnect("s1");
+        disconnect("s1");   // DISCONNECT 프레임 + 소켓 종료
+        presence.flush();
+        assertEquals(2, presence.current().online());
+        assertEquals(2, presence.current().sessions());
+
+        disconnect("s2");
+        presence.flush();
+        assertEquals(new PresenceDTO(1, 1, List.of("둘")), presence.current());
+    }
+
+    @Test
+    void missingHeadersAreAnonymousPerSession() {
+        connect("s1", null, null);
+        connect("s2", " ", null);
+        subscribe("s1", "/topic/public");
+        subscribe("s2", "/topic/public");
+        presence.flush();
+
+        assertEquals(new PresenceDTO(2, 2, List.of("익명", "익명")), presence.current());
+    }
+
+    @Test
+    void nicknameListIsCapped() {
+        for (int i = 0; i < 5; i++) {
+            connect("s" + i, "u" + i, "n" + i);
+            subscribe("s" + i, "/topic/public");
+        }
+        presence.flush();
+
+        assertEquals(5, presence.current().online());
+        assertEquals(2, presence.current().nicknames().size());
+    }
+
+    @Test
+    void broadcastsOnlyWhenChanged() {
+        connect("s1", "u1", "하나");
+        subscribe("s1", "/topic/public");
+        presence.flush();
+        presence.flush();
+        verify(messaging, times(1)).convertAndSend(anyString(), any(Object.class));
+
+        disconnect("unknown");   // 센 적 없는 세션
+        presence.flush();
+        verify(messaging, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void disconnectBeforeSubscribeLeavesNothing() {
+        connect("s1", "u1", "하나");
+        disconnect("s1");
+        subscribe("s1", "/topic/public");   // 늦게 도착한 구독은 무시
+        presence.flush();
+
+        assertEquals(PresenceDTO.EMPTY, presence.current());
+    }
+
+    private void connect(String sessionId, String senderId, String nickname) {
+        StompHeaderAccessor h = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (senderId != null) h.addNativeHeader("senderId", senderId);
+        if (nickname != null) h.addNativeHeader("nickname", nickname);
+        presence.onConnect(new SessionConnectEvent(this, message(h, sessionId)));
+    }
+
+    private void subscribe(String sessionId, String destination) {
+        StompHeaderAccessor h = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        h.setDestination(destination);
+        presence.onSubscribe(new SessionSubscribeEvent(this, message(h, sessionId)));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor h = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        presence.onDisconnect(new SessionDisconnectEvent(this, message(h, sessionId), sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor h, String sessionId) {
+        h.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], h.getMessageHeaders());
+    }
+}
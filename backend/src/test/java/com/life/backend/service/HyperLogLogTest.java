@@ -0,0 +1,60 @@
+package com.life.backend.service;
+
+import com.life.backend.web.ClientKeys;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 추정 오차 (p=12 표준 오차 약 1.6% → 4배인 6.5% 안쪽) 와 병합 성질
+class HyperLogLogTest {
+
+    @Test
+    void emptyAndSmallCountsAreNearlyExact() {
+        assertEquals(0, new HyperLogLog().estimate());
+        long e = sketch(0, 10).estimate();
+        assertTrue(Math.abs(e - 10) <= 1, "estimate=" + e);   // linear counting 구간
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        for (int n : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            long e = sketch(0, n).estimate();
+            assertTrue(Math.abs(e - n) <= n * 0.065, "n=" + n + " estimate=" + e);
+        }
+    }
+
+    @Test
+    void repeatedVisitorsDoNotCount() {
+        HyperLogLog h = sketch(0, 5_000);
+        byte[] before = h.toBytes();
+        for (int i = 0; i < 5_000; i++) assertFalse(h.add(ClientKeys.hash("v" + i)));
+        assertArrayEquals(before, h.toBytes());
+    }
+
+    @Test
+    void mergeEqualsUnionAndIsIdempotent() {
+        HyperLogLog a = sketch(0, 30_000);
+        HyperLogLog b = sketch(20_000, 50_000);
+        a.merge(b.toBytes());
+        assertArrayEquals(sketch(0, 50_000).toBytes(), a.toBytes());
+
+        byte[] merged = a.toBytes();
+        a.merge(b.toBytes());
+        assertArrayEquals(merged, a.toBytes());
+    }
+
+    @Test
+    void rejectsWrongRegisterSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(new byte[16]));
+    }
+
+    private static HyperLogLog sketch(int from, int to) {
+        HyperLogLog h = new HyperLogLog();
+        for (int i = from; i < to; i++) h.add(ClientKeys.hash("v" + i));
+        return h;
+    }
+}
@@ -0,0 +1,120 @@
+package com.life.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 같은 키: 진행 중이면 기다렸다가 같은 결과, 끝난 뒤에는 캐시된 결과, 실패하면 다시 실행 가능
+class IdempotencyServiceTest {
+
+    private final IdempotencyService svc = new IdempotencyService(100, 600, 2000);
+
+    @Test
+    void completedResultIsSharedWithoutRunningAgain() {
+        AtomicInteger runs = new AtomicInteger();
+        Object first = svc.execute("k", () -> { runs.incrementAndGet(); return new Object(); });
+        Object second = svc.execute("k", () -> { runs.incrementAndGet(); return new Object(); });
+
+        assertSame(first, second);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> svc.execute("k", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "saved";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> dup = CompletableFuture.supplyAsync(() -> svc.execute("k", () -> {
+            runs.incrementAndGet();
+            return "dup";
+        }));
+        release.countDown();
+
+        assertEquals("saved", first.get(5, TimeUnit.SECONDS));
+        assertEquals("saved", dup.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void waiterGivesUpWithConflictAfterTimeout() throws Exception {
+        IdempotencyService quick = new IdempotencyService(100, 600, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> quick.execute("k", () -> {
+            started.countDown();
+            await(release);
+            return "saved";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        var e = assertThrows(ResponseStatusException.class, () -> quick.execute("k", () -> "dup"));
+        assertEquals(409, e.getStatusCode().value());
+
+        release.countDown();
+        assertEquals("saved", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failureIsPropagatedToWaiterAndKeyCanBeRetried() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> svc.execute("k", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("bad");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> dup = CompletableFuture.supplyAsync(() -> svc.execute("k", () -> "dup"));
+        Thread.sleep(100);   // 실패 전에 dup 이 기다리기 시작하도록
+        release.countDown();
+
+        var e = assertThrows(Exception.class, () -> dup.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalArgumentException, String.valueOf(e.getCause()));
+        assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+
+        assertEquals("retry", svc.execute("k", () -> "retry"));
+    }
+
+    @Test
+    void errorAlsoReleasesKey() {
+        assertThrows(StackOverflowError.class, () -> svc.execute("k", () -> { throw new StackOverflowError(); }));
+
+        assertEquals("retry", svc.execute("k", () -> "retry"));
+    }
+
+    @Test
+    void blankKeyIsNotDeduplicated() {
+        AtomicInteger runs = new AtomicInteger();
+        svc.execute(null, runs::incrementAndGet);
+        svc.execute(" ", runs::incrementAndGet);
+
+        assertEquals(2, runs.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
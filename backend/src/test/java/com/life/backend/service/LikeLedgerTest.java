@@ -0,0 +1,113 @@
+package com.life.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// LongSet 의 뒤쪽 원소 당겨오기 삭제와, 비게 된 셋의 파일 정리
+class LikeLedgerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void removeShiftsCollidingEntriesBack() {
+        // 용량 8: 1, 9, 17 은 모두 1번 칸이 제자리 → 1,2,3 번 칸에 연속
+        LikeLedger.LongSet s = new LikeLedger.LongSet();
+        s.add(1);
+        s.add(9);
+        s.add(17);
+
+        assertTrue(s.remove(9));
+        assertFalse(s.contains(9));
+        assertTrue(s.contains(1));
+        assertTrue(s.contains(17));
+
+        assertTrue(s.remove(1));
+        assertTrue(s.contains(17));
+        assertEquals(1, s.size());
+    }
+
+    @Test
+    void removeShiftsAcrossTableEnd() {
+        // 7, 15 는 7번 칸이 제자리 (15 는 0번으로 넘어감), 8 은 0번이 제자리라 1번으로 밀림
+        LikeLedger.LongSet s = new LikeLedger.LongSet();
+        s.add(7);
+        s.add(15);
+        s.add(8);
+
+        assertTrue(s.remove(7));
+        assertTrue(s.contains(15));
+        assertTrue(s.contains(8));
+        assertFalse(s.contains(7));
+        assertFalse(s.remove(7));
+    }
+
+    @Test
+    void zeroFingerprintIsStoredAsOne() {
+        LikeLedger.LongSet s = new LikeLedger.LongSet();
+        assertTrue(s.add(0));
+        assertFalse(s.add(1));
+        assertTrue(s.remove(0));
+        assertEquals(0, s.size());
+    }
+
+    @Test
+    void matchesHashSetUnderRandomOps() {
+        LikeLedger.LongSet s = new LikeLedger.LongSet();
+        Set<Long> ref = new HashSet<>();
+        Random r = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 작은 값(이웃 칸)과 4096 배수(같은 칸에 몰림)를 섞어 긴 클러스터를 만듦
+            long v = r.nextBoolean() ? 1 + r.nextInt(300) : (1 + r.nextInt(20)) * 4096L;
+            if (r.nextInt(3) == 0) assertEquals(ref.remove(v), s.remove(v));
+            else assertEquals(ref.add(v), s.add(v));
+
+            if (i % 500 == 0) {
+                for (long x : ref) assertTrue(s.contains(x));
+            }
+        }
+        assertEquals(ref.size(), s.size());
+        long[] actual = s.toArray();
+        Arrays.sort(actual);
+        assertArrayEquals(ref.stream().mapToLong(Long::longValue).sorted().toArray(), actual);
+    }
+
+    @Test
+    void emptiedSetLeavesNoFile() {
+        LikeLedger ledger = new LikeLedger(dir.toString(), 1 << 20);
+        Path file = dir.resolve("1").resolve("1.bin");
+
+        assertTrue(ledger.add(1, 5));
+        assertFalse(ledger.add(1, 5));
+        ledger.flush();
+        assertTrue(Files.exists(file));
+
+        assertTrue(ledger.remove(1, 5));
+        ledger.flush();
+        assertFalse(Files.exists(file));
+        assertTrue(ledger.add(1, 5));   // 지워진 뒤 다시 누를 수 있음
+    }
+
+    @Test
+    void rolledBackLikeOnMissingPostWritesNothing() {
+        LikeLedger ledger = new LikeLedger(dir.toString(), 1 << 20);
+
+        // 컨트롤러: add → 404 → remove 로 되돌림
+        assertTrue(ledger.add(42, 7));
+        assertTrue(ledger.remove(42, 7));
+        ledger.flush();
+        assertFalse(Files.exists(dir.resolve("42").resolve("42.bin")));
+    }
+}
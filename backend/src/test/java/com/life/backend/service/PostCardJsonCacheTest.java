@@ -0,0 +1,103 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.life.backend.dto.PostDTO;
+import com.life.backend.entity.Post;
+import com.life.backend.event.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 버전(수정일·좋아요·조회수·댓글 수 등)이 같으면 바이트 재사용, 하나라도 바뀌거나 변경 이벤트가 오면 다시 직렬화
+class PostCardJsonCacheTest {
+
+    private PostCardJsonCache cache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostCardJsonCache(new ObjectMapper(), 1 << 20);
+        builds = new AtomicInteger();
+    }
+
+    @Test
+    void sameVersionReusesBytes() {
+        Post p = post();
+        byte[] first = fragment(p, 3);
+        byte[] second = fragment(p, 3);
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+        assertTrue(new String(first).contains("\"title\":\"제목\""));
+    }
+
+    @Test
+    void anyVersionFieldChangeRebuilds() {
+        Post p = post();
+        byte[] last = fragment(p, 3);
+
+        p.setLikes(p.getLikes() + 1);
+        last = assertRebuilt(last, fragment(p, 3));
+        p.setViews(p.getViews() + 1);
+        last = assertRebuilt(last, fragment(p, 3));
+        last = assertRebuilt(last, fragment(p, 4));   // 댓글 수
+        p.setTitle("새 제목");
+        last = assertRebuilt(last, fragment(p, 4));
+        p.setUpdateDate(p.getUpdateDate().plusSeconds(1));
+        last = assertRebuilt(last, fragment(p, 4));
+        p.setContentCodec(PostContentCodec.GZIP_V1);  // 백필로 저장 형식만 바뀐 경우
+        assertRebuilt(last, fragment(p, 4));
+
+        assertEquals(7, builds.get());
+    }
+
+    @Test
+    void changeEventInvalidates() {
+        Post p = post();
+        byte[] first = fragment(p, 0);
+
+        cache.onChanged(new PostChangedEvent(p.getId(), PostChangedEvent.Type.LIKED));
+        assertNotSame(first, fragment(p, 0));
+        assertEquals(2, builds.get());
+
+        cache.onChanged(new PostChangedEvent(999L, PostChangedEvent.Type.LIKED));   // 다른 글
+        fragment(p, 0);
+        assertEquals(2, builds.get());
+    }
+
+    private byte[] assertRebuilt(byte[] before, byte[] after) {
+        assertNotSame(before, after);
+        return after;
+    }
+
+    private byte[] fragment(Post p, int commentCount) {
+        return cache.fragment(p, commentCount, () -> {
+            builds.incrementAndGet();
+            PostDTO d = new PostDTO();
+            d.setId(p.getId());
+            d.setTitle(p.getTitle());
+            d.setLikes(p.getLikes());
+            d.setCommentCount(commentCount);
+            return d;
+        });
+    }
+
+    private static Post post() {
+        Post p = new Post();
+        p.setId(1L);
+        p.setTitle("제목");
+        p.setLikes(0);
+        p.setViews(0);
+        p.setUniqueViews(0);
+        p.setUpdateYn("N");
+        p.setUpdateDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return p;
+    }
+}
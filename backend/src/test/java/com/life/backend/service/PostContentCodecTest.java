@@ -0,0 +1,112 @@
+package com.life.backend.service;
+
+import com.life.backend.entity.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 압축/평문 왕복, 기존(평문) 행 읽기, 카드 미리보기, 백필
+class PostContentCodecTest {
+
+    private static final String HTML = "<p>안녕 <b>세상</b> &amp; 1 &lt; 2</p><img src=\"/uploads/a.png\">";
+
+    @Test
+    void compressedRoundTrip() {
+        Post p = new Post();
+        PostContentCodec.write(p, HTML, true);
+
+        assertTrue(PostContentCodec.isCompressed(p));
+        assertEquals("", p.getContent());
+        assertEquals(HTML, PostContentCodec.read(p));
+        assertEquals("안녕 세상 & 1 < 2", p.getSearchText());
+        assertArrayEquals(PostContentCodec.gzip(HTML), p.getContentGz());
+    }
+
+    @Test
+    void plainWriteClearsCompressedColumns() {
+        Post p = new Post();
+        PostContentCodec.write(p, HTML, true);
+        PostContentCodec.write(p, "<p>수정</p>", false);
+
+        assertFalse(PostContentCodec.isCompressed(p));
+        assertEquals("<p>수정</p>", PostContentCodec.read(p));
+        assertNull(p.getContentGz());
+        assertNull(p.getContentCodec());
+        assertNull(p.getSearchText());
+    }
+
+    @Test
+    void legacyRowIsReadAsPlainText() {
+        Post legacy = new Post();
+        legacy.setContent(HTML);
+        assertEquals(HTML, PostContentCodec.read(legacy));
+
+        // 형식만 적혀 있고 바이트가 없으면 평문으로
+        legacy.setContentCodec(PostContentCodec.GZIP_V1);
+        assertFalse(PostContentCodec.isCompressed(legacy));
+        assertEquals(HTML, PostContentCodec.read(legacy));
+    }
+
+    @Test
+    void previewDoesNotNeedGzipBytes() {
+        Post p = new Post();
+        PostContentCodec.write(p, HTML, true);
+        p.setContentGz(new byte[]{1});   // 풀면 실패할 바이트 → 미리보기는 search_text 만 씀
+        p.setContentCodec(PostContentCodec.GZIP_V1);
+
+        assertEquals("안녕 세상 &amp; 1 &lt; 2", PostContentCodec.preview(p));
+
+        p.setSearchText("가".repeat(PostContentCodec.PREVIEW_CHARS + 10));
+        assertEquals(PostContentCodec.PREVIEW_CHARS, PostContentCodec.preview(p).length());
+
+        Post plain = new Post();
+        plain.setContent(HTML);
+        assertEquals(HTML, PostContentCodec.preview(plain));
+    }
+
+    @Test
+    void backfillCompressesOnlyPlainRows() {
+        var ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(ds);
+        jdbc.execute("""
+            create table post (id bigint primary key, content clob, content_gz blob,
+                content_codec varchar(16), search_text clob)
+        """);
+        for (long id = 1; id <= 5; id++) jdbc.update("insert into post (id, content) values (?, ?)", id, "<p>글 " + id + "</p>");
+        byte[] already = PostContentCodec.gzip("<p>이미</p>");
+        jdbc.update("update post set content = '', content_gz = ?, content_codec = ?, search_text = '이미' where id = 3",
+                already, PostContentCodec.GZIP_V1);
+
+        var backfill = new PostContentBackfill(jdbc, new TransactionTemplate(new DataSourceTransactionManager(ds)),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(backfill, "batchSize", 2);
+        backfill.backfill();
+
+        for (long id = 1; id <= 5; id++) {
+            Map<String, Object> row = jdbc.queryForMap("select * from post where id = ?", id);
+            assertEquals(PostContentCodec.GZIP_V1, row.get("CONTENT_CODEC"));
+            assertEquals("", row.get("CONTENT"));
+            byte[] gz = (byte[]) row.get("CONTENT_GZ");
+            if (id == 3) {
+                assertArrayEquals(already, gz);
+            } else {
+                assertEquals("<p>글 " + id + "</p>", PostContentCodec.gunzip(gz));
+                assertEquals("글 " + id, row.get("SEARCH_TEXT"));
+            }
+        }
+    }
+}
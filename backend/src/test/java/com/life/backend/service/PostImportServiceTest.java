@@ -0,0 +1,168 @@
+package com.life.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.life.backend.entity.Category;
+import com.life.backend.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 임베디드 H2(MySQL 모드)로 chunk 처리 / 보류 댓글 / 재개 확인 (chunk-size 2)
+class PostImportServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbc;
+    private PostImportService svc;
+
+    @BeforeEach
+    void setUp() {
+        var ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:import-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(ds);
+        jdbc.execute("""
+            create table post (id bigint auto_increment primary key, client_req_id varchar(36) unique,
+                category_id bigint not null, title varchar(120), content clob, author_id varchar(64),
+                author_nick varchar(64), views int, likes int, update_yn char(1), delete_yn char(1),
+                create_date timestamp, update_date timestamp)
+        """);
+        jdbc.execute("""
+            create table comment (id bigint auto_increment primary key, post_id bigint not null,
+                nickname varchar(64), comment_password_hash varchar(255), content clob,
+                import_key varchar(36) unique, update_yn char(1), delete_yn char(1),
+                create_date timestamp, update_date timestamp)
+        """);
+
+        Category free = new Category();
+        free.setId(1L);
+        free.setCode("free");
+        CategoryRepository categoryRepo = mock(CategoryRepository.class);
+        when(categoryRepo.findAll()).thenReturn(List.of(free));
+
+        svc = new PostImportService(jdbc, new NamedParameterJdbcTemplate(jdbc),
+                new TransactionTemplate(new DataSourceTransactionManager(ds)), categoryRepo, new ObjectMapper());
+        ReflectionTestUtils.setField(svc, "chunkSize", 2);
+        ReflectionTestUtils.setField(svc, "parallelism", 2);
+    }
+
+    @Test
+    void importsPostsAndComments() throws IOException {
+        Path f = write(post("a"), comment("a", "hi"), post("b"));
+
+        PostImportService.Result r = svc.importFile(f);
+
+        assertEquals(new PostImportService.Result(3, 2, 1, 0), r);
+        assertEquals(2, count("post"));
+        assertEquals(1, count("comment"));
+    }
+
+    @Test
+    void duplicateRefInChunkIsSkipped() throws IOException {
+        PostImportService.Result r = svc.importFile(write(post("a"), post("a")));
+
+        assertEquals(1, r.posts());
+        assertEquals(1, r.skipped());
+    }
+
+    @Test
+    void commentBeforeItsPostIsDeferredThenResolved() throws IOException {
+        // 같은 내용의 댓글 두 줄도 서로 다른 댓글 (줄 번호로 구분)
+        Path f = write(comment("b", "same"), comment("b", "same"), post("a"), post("b"));
+
+        PostImportService.Result r = svc.importFile(f);
+
+        assertEquals(2, r.comments());
+        assertEquals(0, r.skipped());
+        assertEquals(2, count("comment"));
+        assertFalse(Files.exists(dir.resolve("in.ndjson.deferred")));
+    }
+
+    @Test
+    void unresolvedDeferredCommentIsSkipped() throws IOException {
+        PostImportService.Result r = svc.importFile(write(comment("missing", "x"), post("a")));
+
+        assertEquals(0, r.comments());
+        assertEquals(1, r.skipped());
+    }
+
+    @Test
+    void resumeAfterCrashBeforeCheckpointDoesNotDuplicate() throws IOException {
+        Path f = write(post("a"), comment("a", "1"), comment("a", "2"), post("b"), comment("b", "3"));
+        svc.importFile(f);
+
+        // 커밋 후 체크포인트 전에 죽은 것처럼 처음부터 다시
+        Files.delete(dir.resolve("in.ndjson.ckpt"));
+        svc.importFile(f);
+
+        assertEquals(2, count("post"));
+        assertEquals(3, count("comment"));
+    }
+
+    @Test
+    void badCreateDateIsSkipped() throws IOException {
+        PostImportService.Result r = svc.importFile(write("""
+            {"type":"post","ref":"a","categoryCode":"free","title":"t","createDate":"yesterday"}"""));
+
+        assertEquals(0, r.posts());
+        assertEquals(1, r.skipped());
+        assertEquals(0, count("post"));
+    }
+
+    @Test
+    void parseDate() {
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), PostImportService.parseDate("2024-01-02 03:04:05"));
+        assertNotNull(PostImportService.parseDate(null));   // 없으면 지금 시각
+        assertNull(PostImportService.parseDate("2024/01/02"));
+    }
+
+    @Test
+    void keysAreStable() {
+        assertEquals(PostImportService.reqIdOf("a"), PostImportService.reqIdOf("a"));
+        assertEquals(PostImportService.commentKeyOf("in.ndjson", 3), PostImportService.commentKeyOf("in.ndjson", 3));
+        assertFalse(PostImportService.commentKeyOf("in.ndjson", 3).equals(PostImportService.commentKeyOf("in.ndjson", 4)));
+    }
+
+    private Path write(String... lines) throws IOException {
+        Path f = dir.resolve("in.ndjson");
+        Files.write(f, List.of(lines), StandardCharsets.UTF_8);
+        return f;
+    }
+
+    private int count(String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static String post(String ref) {
+        return """
+            {"type":"post","ref":"%s","categoryCode":"free","title":"t-%s","content":"<p>c</p>","createDate":"2024-01-01 00:00:00"}"""
+                .formatted(ref, ref);
+    }
+
+    private static String comment(String postRef, String text) {
+        return """
+            {"type":"comment","postRef":"%s","nickname":"n","content":"%s","createDate":"2024-01-01 00:00:01"}"""
+                .formatted(postRef, text);
+    }
+}
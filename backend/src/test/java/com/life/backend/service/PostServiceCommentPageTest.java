@@ -0,0 +1,152 @@
+package com.life.backend.service;
+
+import com.life.backend.config.ReadYourWrites;
+import com.life.backend.dto.CommentDTO;
+import com.life.backend.entity.Comment;
+import com.life.backend.entity.Post;
+import com.life.backend.repository.CategoryRepository;
+import com.life.backend.repository.CommentRepository;
+import com.life.backend.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 댓글 (createDate, id) 커서 페이지와 첫 페이지 캐시 (커밋 후에만 무효화)
+class PostServiceCommentPageTest {
+
+    private static final long POST_ID = 1L;
+    private static final LocalDateTime T = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_000);
+
+    private PostRepository postRepo;
+    private CommentRepository commentRepo;
+    private PostService svc;
+    private Comment c1;
+
+    @BeforeEach
+    void setUp() {
+        postRepo = mock(PostRepository.class);
+        commentRepo = mock(CommentRepository.class);
+        svc = new PostService(postRepo, mock(CategoryRepository.class), commentRepo, new SimpleMeterRegistry(),
+                mock(ReadYourWrites.class), mock(ApplicationEventPublisher.class), mock(PostCardJsonCache.class));
+
+        Post post = new Post();
+        post.setId(POST_ID);
+        c1 = comment(post, 10L, T);
+        when(postRepo.existsById(POST_ID)).thenReturn(true);
+        when(commentRepo.findActivePage(eq(POST_ID), any())).thenReturn(List.of(c1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void firstPageIsCached() {
+        List<CommentDTO> first = svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+        List<CommentDTO> again = svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+
+        assertSame(first, again);
+        verify(commentRepo, times(1)).findActivePage(eq(POST_ID), any());
+        assertEquals("2024-01-02T03:04:05.123456", first.get(0).getCursor());
+    }
+
+    @Test
+    void otherPageSizesAreNotCached() {
+        svc.listComments(POST_ID, null, null, 10);
+        svc.listComments(POST_ID, null, null, 10);
+
+        verify(commentRepo, times(2)).findActivePage(eq(POST_ID), any());
+    }
+
+    @Test
+    void cursorIsPassedAsKeyset() {
+        svc.listComments(POST_ID, "2024-01-02T03:04:05.123456", 10L, 20);
+        verify(commentRepo).findActivePageAfter(eq(POST_ID), eq(T), eq(10L), any(Pageable.class));
+
+        // 초 단위 형식도 받음
+        svc.listComments(POST_ID, "2024-01-02 03:04:05", 10L, 20);
+        verify(commentRepo).findActivePageAfter(eq(POST_ID), eq(T.withNano(0)), eq(10L), any(Pageable.class));
+    }
+
+    @Test
+    void badCursorIs400() {
+        var e = assertThrows(ResponseStatusException.class, () -> svc.listComments(POST_ID, "어제", 10L, 20));
+        assertEquals(400, e.getStatusCode().value());
+    }
+
+    @Test
+    void missingPostIs404() {
+        when(postRepo.existsById(2L)).thenReturn(false);
+        var e = assertThrows(ResponseStatusException.class, () -> svc.listComments(2L, null, null, 20));
+        assertEquals(404, e.getStatusCode().value());
+    }
+
+    @Test
+    void commentChangeEvictsFirstPageOnlyAfterCommit() {
+        when(commentRepo.findById(10L)).thenReturn(Optional.of(c1));
+        svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        svc.deleteComment(POST_ID, 10L, "pw");
+
+        // 커밋 전: 동시 조회는 아직 캐시 (지웠다가 옛 목록이 다시 캐시되는 일 없게)
+        svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+        verify(commentRepo, times(1)).findActivePage(eq(POST_ID), any());
+
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        syncs.forEach(TransactionSynchronization::afterCommit);
+
+        when(commentRepo.findActivePage(eq(POST_ID), any())).thenReturn(List.of());
+        assertEquals(List.of(), svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE));
+        verify(commentRepo, times(2)).findActivePage(eq(POST_ID), any());
+    }
+
+    @Test
+    void wrongPasswordDoesNotEvict() {
+        when(commentRepo.findById(10L)).thenReturn(Optional.of(c1));
+        svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+
+        assertThrows(ResponseStatusException.class, () -> svc.deleteComment(POST_ID, 10L, "wrong"));
+        svc.listComments(POST_ID, null, null, PostService.COMMENT_PAGE_SIZE);
+
+        verify(commentRepo, times(1)).findActivePage(eq(POST_ID), any());
+        verify(commentRepo, never()).findActivePageAfter(any(), any(), any(), any());
+    }
+
+    private static Comment comment(Post post, Long id, LocalDateTime createDate) {
+        Comment c = new Comment();
+        c.setId(id);
+        c.setPost(post);
+        c.setNickname("n");
+        c.setContent("c");
+        c.setCommentPasswordHash(new BCryptPasswordEncoder(4).encode("pw"));
+        c.setUpdateYn("N");
+        c.setDeleteYn("N");
+        c.setCreateDate(createDate);
+        return c;
+    }
+}
@@ -0,0 +1,148 @@
+package com.life.backend.service;
+
+import com.life.backend.event.PostChangedEvent;
+import com.life.backend.repository.CommentRepository;
+import com.life.backend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 직전에 보낸 값과 다른 필드만 push, 안 바뀌었으면 아무것도 안 보냄, 통계와 무관한 이벤트는 무시
+class PostStatsPublisherTest {
+
+    private PostRepository postRepo;
+    private SimpMessagingTemplate messaging;
+    private PostStatsPublisher publisher;
+
+    // 글 id → {likes, views}, 댓글 수
+    private final Map<Long, int[]> counters = new HashMap<>();
+    private final Map<Long, Long> comments = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepo = mock(PostRepository.class);
+        CommentRepository commentRepo = mock(CommentRepository.class);
+        messaging = mock(SimpMessagingTemplate.class);
+        publisher = new PostStatsPublisher(postRepo, commentRepo, messaging);
+
+        when(postRepo.findCounters(any())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object id : inv.<Collection<?>>getArgument(0)) {
+                int[] c = counters.get((Long) id);
+                if (c != null) rows.add(new Object[]{id, c[0], c[1]});
+            }
+            return rows;
+        });
+        when(commentRepo.countActiveCommentsByPostIds(anyList())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : inv.<List<Long>>getArgument(0)) {
+                if (comments.containsKey(id)) rows.add(new Object[]{id, comments.get(id)});
+            }
+            return rows;
+        });
+    }
+
+    @Test
+    void firstPushHasAllFieldsThenOnlyChangedOnes() {
+        set(1L, 2, 10, 0);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.VIEWED));
+        publisher.flush();
+        verify(messaging).convertAndSend("/topic/posts/1/stats", stats(1L, 2, 10, 0));
+
+        set(1L, 3, 10, 0);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.LIKED));
+        publisher.flush();
+        Map<String, Object> likesOnly = new LinkedHashMap<>();
+        likesOnly.put("id", 1L);
+        likesOnly.put("likes", 3);
+        verify(messaging).convertAndSend("/topic/posts/1/stats", likesOnly);
+        verify(messaging).convertAndSend("/topic/posts/stats", List.of(likesOnly));
+    }
+
+    @Test
+    void unchangedCountersAreNotPushed() {
+        set(1L, 2, 10, 1);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.VIEWED));
+        publisher.flush();
+
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.VIEWED));   // 값은 그대로
+        publisher.flush();
+
+        verify(messaging, times(1)).convertAndSend(eq("/topic/posts/1/stats"), any(Object.class));
+        verify(messaging, times(1)).convertAndSend(eq("/topic/posts/stats"), any(Object.class));
+    }
+
+    @Test
+    void commentCountChangeIsPushed() {
+        set(1L, 0, 0, 0);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.VIEWED));
+        publisher.flush();
+
+        set(1L, 0, 0, 2);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.COMMENTED));
+        publisher.flush();
+
+        Map<String, Object> commentsOnly = new LinkedHashMap<>();
+        commentsOnly.put("id", 1L);
+        commentsOnly.put("commentCount", 2);
+        verify(messaging).convertAndSend("/topic/posts/1/stats", commentsOnly);
+    }
+
+    @Test
+    void otherEventsAndEmptyFlushSendNothing() {
+        set(1L, 1, 1, 0);
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.UPDATED));
+        publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.CREATED));
+        publisher.flush();
+
+        verify(postRepo, never()).findCounters(any());
+        verify(messaging, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void repeatedEventsForSamePostAreCoalesced() {
+        set(1L, 5, 50, 0);
+        set(2L, 1, 1, 0);
+        for (int i = 0; i < 100; i++) publisher.onChanged(new PostChangedEvent(1L, PostChangedEvent.Type.VIEWED));
+        publisher.onChanged(new PostChangedEvent(2L, PostChangedEvent.Type.LIKED));
+        publisher.flush();
+
+        verify(messaging).convertAndSend("/topic/posts/1/stats", stats(1L, 5, 50, 0));
+        verify(messaging).convertAndSend("/topic/posts/2/stats", stats(2L, 1, 1, 0));
+        verify(messaging).convertAndSend(eq("/topic/posts/stats"), argThat((List<?> l) -> l.size() == 2));
+    }
+
+    private void set(long id, int likes, int views, long commentCount) {
+        counters.put(id, new int[]{likes, views});
+        if (commentCount > 0) comments.put(id, commentCount);
+        else comments.remove(id);
+    }
+
+    private static Map<String, Object> stats(long id, int likes, int views, int commentCount) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", id);
+        m.put("likes", likes);
+        m.put("views", views);
+        m.put("commentCount", commentCount);
+        return m;
+    }
+}
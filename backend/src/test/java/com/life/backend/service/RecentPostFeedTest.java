@@ -0,0 +1,112 @@
+package com.life.backend.service;
+
+import com.life.backend.dto.PostDTO;
+import com.life.backend.event.PostChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// tail 커서 조회 (커서가 tail 밖이면 null → DB) 와 tail 을 채우는 중에 들어온 새 글
+class RecentPostFeedTest {
+
+    @Test
+    void sinceReturnsCardsAfterCursorOldestFirstWindow() {
+        RecentPostFeed.Tail tail = new RecentPostFeed.Tail(cards(5, 1), 10);
+
+        assertEquals(List.of(5L, 4L, 3L), ids(tail.since(date(2), 2L, 10)));
+        // limit 보다 많으면 커서 바로 다음(오래된 쪽)부터 → 클라이언트가 이어서 요청
+        assertEquals(List.of(4L, 3L), ids(tail.since(date(2), 2L, 2)));
+        assertEquals(List.of(), ids(tail.since(date(5), 5L, 10)));
+    }
+
+    @Test
+    void sameCreateDateIsOrderedById() {
+        PostDTO a = card(7, date(1));
+        PostDTO b = card(8, date(1));
+        RecentPostFeed.Tail tail = new RecentPostFeed.Tail(List.of(b, a), 10);
+
+        assertEquals(List.of(8L), ids(tail.since(date(1), 7L, 10)));
+    }
+
+    @Test
+    void cursorOlderThanFullTailFallsBackToDb() {
+        RecentPostFeed.Tail full = new RecentPostFeed.Tail(cards(5, 3), 3);
+        assertNull(full.since(date(1), 1L, 10));
+
+        // tail 이 꽉 차지 않았으면 그게 전부 (DB 에도 더 없음)
+        RecentPostFeed.Tail partial = new RecentPostFeed.Tail(cards(5, 3), 10);
+        assertEquals(List.of(5L, 4L, 3L), ids(partial.since(date(1), 1L, 10)));
+    }
+
+    @Test
+    void addOverflowDropsOldestAndDeduplicates() {
+        RecentPostFeed.Tail tail = new RecentPostFeed.Tail(cards(3, 1), 3);
+
+        tail.add(card(4, date(4)));
+        assertEquals(List.of(4L, 3L, 2L), ids(tail.newest(10)));
+
+        tail.add(card(4, date(4)));
+        assertEquals(List.of(4L, 3L, 2L), ids(tail.newest(10)));
+        assertNull(tail.since(date(1), 1L, 10));   // 1 은 밀려남
+    }
+
+    @Test
+    void postCreatedWhileTailIsLoadingIsNotLost() throws Exception {
+        PostService posts = mock(PostService.class);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 로더의 DB 조회는 새 글 커밋 전 시점 → 결과에 5 가 없음
+        when(posts.latestCards(eq(""), anyInt())).thenAnswer(inv -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return cards(4, 1);
+        });
+        when(posts.card(5L)).thenReturn(Optional.of(card(5, date(5))));
+        RecentPostFeed feed = new RecentPostFeed(posts, mock(SimpMessagingTemplate.class), 10);
+
+        Thread reader = new Thread(() -> feed.since(null, null, null, 10));
+        reader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        feed.onChanged(new PostChangedEvent(5L, PostChangedEvent.Type.CREATED));   // 채우는 중인 tail 에 붙음
+        release.countDown();
+        reader.join(5000);
+
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(feed.since(null, null, null, 10)));
+    }
+
+    // id newest..oldest, createDate 는 id 초 단위
+    private static List<PostDTO> cards(int newest, int oldest) {
+        List<PostDTO> out = new ArrayList<>();
+        for (int i = newest; i >= oldest; i--) out.add(card(i, date(i)));
+        return out;
+    }
+
+    private static PostDTO card(long id, String createDate) {
+        PostDTO c = new PostDTO();
+        c.setId(id);
+        c.setCreateDate(createDate);
+        return c;
+    }
+
+    private static String date(int sec) {
+        return "2024-01-01 00:00:%02d".formatted(sec);
+    }
+
+    private static List<Long> ids(List<PostDTO> cards) {
+        return cards.stream().map(PostDTO::getId).toList();
+    }
+}
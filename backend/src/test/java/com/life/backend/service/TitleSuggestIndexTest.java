@@ -0,0 +1,71 @@
+package com.life.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 자모/초성 정규화와 제목 키 생성 (trie 없이 정적 메서드만)
+class TitleSuggestIndexTest {
+
+    @Test
+    void normalizeSplitsSyllablesIntoJamo() {
+        assertEquals("ㅎㅏㄴㄱㅡㄹ", TitleSuggestIndex.normalize("한글"));
+        assertEquals("ㄱㅗㅏ", TitleSuggestIndex.normalize("과"));      // 겹모음
+        assertEquals("ㄷㅏㄹㄱ", TitleSuggestIndex.normalize("닭"));    // 겹받침
+        assertEquals("ㄱㅅ", TitleSuggestIndex.normalize("ㄳ"));        // 단독 호환 자모
+    }
+
+    @Test
+    void normalizeDropsSeparatorsAndLowercases() {
+        assertEquals("java17", TitleSuggestIndex.normalize("Java 17!"));
+        assertEquals("", TitleSuggestIndex.normalize(null));
+        assertEquals("", TitleSuggestIndex.normalize("  -  "));
+    }
+
+    @Test
+    void partiallyTypedSyllableIsPrefixOfFinalOne() {
+        // 입력 중(조합 중) 글자도 완성 글자의 자모 키 prefix 로 매칭
+        assertTrue(TitleSuggestIndex.normalize("과").startsWith(TitleSuggestIndex.normalize("고")));
+        assertTrue(TitleSuggestIndex.normalize("닭").startsWith(TitleSuggestIndex.normalize("달")));
+        assertTrue(TitleSuggestIndex.normalize("한글").startsWith(TitleSuggestIndex.normalize("한그")));
+    }
+
+    @Test
+    void keysHaveJamoAndChosungPerWordStart() {
+        assertEquals(List.of("ㅈㅏㅂㅏㅅㅡㅍㅡㄹㅣㅇ", "ㅈㅂㅅㅍㄹ", "ㅅㅡㅍㅡㄹㅣㅇ", "ㅅㅍㄹ"),
+                TitleSuggestIndex.keys("자바 스프링"));
+    }
+
+    @Test
+    void chosungQueryMatchesChosungKey() {
+        List<String> keys = TitleSuggestIndex.keys("자바 스프링");
+        String q = TitleSuggestIndex.normalize("ㅅㅍ");
+        assertTrue(keys.stream().anyMatch(k -> k.startsWith(q)));
+    }
+
+    @Test
+    void singleChosungIsNotAddedSeparately() {
+        // 한 글자 초성 "ㄱ" 은 자모 키 "ㄱㅏ" 의 prefix 라 따로 두지 않음
+        assertEquals(List.of("ㄱㅏ"), TitleSuggestIndex.keys("가"));
+    }
+
+    @Test
+    void keysAreBoundedByWordCountAndDepth() {
+        List<String> keys = TitleSuggestIndex.keys("a b c d e f g h");
+        assertEquals(6, keys.size());   // 라틴 문자는 초성 키 = 자모 키라 단어당 하나
+        assertFalse(keys.contains("gh"));
+
+        String first = TitleSuggestIndex.keys("한".repeat(10)).get(0);
+        assertEquals(24, first.length());
+    }
+
+    @Test
+    void blankTitleHasNoKeys() {
+        assertEquals(List.of(), TitleSuggestIndex.keys(null));
+        assertEquals(List.of(), TitleSuggestIndex.keys("   "));
+    }
+}
@@ -0,0 +1,135 @@
+package com.life.backend.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 창 안의 프레임 묶음 / maxBatchChars 즉시 전송 / 버퍼 상한 초과 시 닫기 / 전송 시간 제한 (창 50ms, 묶음 10자, 버퍼 20자, 100ms)
+class BatchingWebSocketSessionTest {
+
+    private WebSocketSession delegate;
+    private ScheduledExecutorService scheduler;
+    private BatchingWebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.isOpen()).thenReturn(true);
+        scheduler = mock(ScheduledExecutorService.class);   // 예약된 flush 는 테스트가 직접 실행
+        session = new BatchingWebSocketSession(delegate, scheduler, 50, 10, 20, 100);
+    }
+
+    @Test
+    void framesInWindowAreSentAsOneMessageInOrder() throws Exception {
+        session.sendMessage(new TextMessage("a\0"));
+        session.sendMessage(new TextMessage("b\0"));
+        session.sendMessage(new TextMessage("c\0"));
+        verify(delegate, never()).sendMessage(any());
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(task.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+        task.getValue().run();
+
+        assertEquals(List.of("a\0b\0c\0"), sentPayloads(1));
+    }
+
+    @Test
+    void reachingMaxBatchFlushesImmediately() throws Exception {
+        session.sendMessage(new TextMessage("12345"));
+        session.sendMessage(new TextMessage("67890"));   // 10자 → 창을 기다리지 않음
+
+        assertEquals(List.of("1234567890"), sentPayloads(1));
+
+        session.sendMessage(new TextMessage("x"));       // 비운 뒤에는 다시 예약
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void overflowingBufferClosesSessionAndDropsFrames() throws Exception {
+        session.sendMessage(new TextMessage("123456789"));
+        session.sendMessage(new TextMessage("a".repeat(12)));   // 21자 > 20
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate, never()).sendMessage(any());
+    }
+
+    @Test
+    void nonTextMessageFlushesPendingFramesFirst() throws Exception {
+        session.sendMessage(new TextMessage("a\0"));
+        WebSocketMessage<?> ping = new PingMessage();
+        session.sendMessage(ping);
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(2)).sendMessage(sent.capture());
+        assertEquals("a\0", sent.getAllValues().get(0).getPayload());
+        assertEquals(ping, sent.getAllValues().get(1));
+    }
+
+    @Test
+    void closeFlushesPendingFrames() throws Exception {
+        session.sendMessage(new TextMessage("ERROR\0"));
+        session.close(CloseStatus.POLICY_VIOLATION);
+
+        assertEquals(List.of("ERROR\0"), sentPayloads(1));
+        verify(delegate).close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    @Test
+    void sendStuckPastTimeLimitClosesSession() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        // 느린 클라이언트: 첫 전송이 막힘
+        Thread writer = new Thread(() -> {
+            try {
+                session.sendMessage(new TextMessage("0123456789"));
+            } catch (Exception ignore) {
+            }
+        });
+        writer.start();
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        session.sendMessage(new TextMessage("a"));   // 아직 제한 시간 안
+        verify(delegate, never()).close(any());
+
+        Thread.sleep(150);
+        session.sendMessage(new TextMessage("b"));   // 100ms 넘게 전송 중 → 닫음
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        release.countDown();
+        writer.join(5000);
+    }
+
+    private List<String> sentPayloads(int expected) throws Exception {
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(delegate, times(expected)).sendMessage(sent.capture());
+        return sent.getAllValues().stream().map(TextMessage::getPayload).toList();
+    }
+}
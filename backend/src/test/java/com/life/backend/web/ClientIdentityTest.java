@@ -0,0 +1,65 @@
+package com.life.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 서버 발급 id 서명 검증과 IP 당 발급 상한
+class ClientIdentityTest {
+
+    @Test
+    void issuedIdIsAcceptedOnNextRequest() {
+        ClientIdentity identity = new ClientIdentity("secret", 20);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        long fp = identity.fingerprint(new MockHttpServletRequest(), first);
+        String token = first.getHeader(ClientIdentity.HEADER);
+        assertNotNull(token);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertEquals(fp, identity.fingerprint(withToken(token), second));
+        assertNull(second.getHeader(ClientIdentity.HEADER));
+    }
+
+    @Test
+    void forgedOrForeignIdIsIgnored() {
+        ClientIdentity identity = new ClientIdentity("secret", 20);
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        new ClientIdentity("other-secret", 20).fingerprint(new MockHttpServletRequest(), other);
+
+        for (String token : new String[]{"abc.def", "abc", other.getHeader(ClientIdentity.HEADER)}) {
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            long fp = identity.fingerprint(withToken(token), res);
+            assertNotNull(res.getHeader(ClientIdentity.HEADER));   // 새로 발급
+            assertNotEquals(ClientKeys.hash("c:" + token.split("\\.")[0]), fp);
+        }
+    }
+
+    @Test
+    void issuanceIsCappedPerIp() {
+        ClientIdentity identity = new ClientIdentity("secret", 2);
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            identity.fingerprint(new MockHttpServletRequest(), res);
+            assertNotNull(res.getHeader(ClientIdentity.HEADER));
+        }
+
+        // 상한을 넘으면 IP 자체가 식별자 → 새 id 를 계속 받아 중복 좋아요를 늘릴 수 없음
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        long fp = identity.fingerprint(new MockHttpServletRequest(), res);
+        assertNull(res.getHeader(ClientIdentity.HEADER));
+        assertEquals(ClientKeys.hash("a:127.0.0.1"), fp);
+        assertEquals(fp, identity.fingerprint(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    private static MockHttpServletRequest withToken(String token) {
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.addHeader(ClientIdentity.HEADER, token);
+        return req;
+    }
+}
@@ -0,0 +1,74 @@
+package com.life.backend.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 전체 동시 비용 상한의 AIMD 조정 (목표 100ms/단위, 초기 상한 10, 최대 64)
+class ListAdmissionFilterTest {
+
+    private static final double EPS = 1e-9;
+
+    private ListAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = filter(10, 64);
+    }
+
+    @Test
+    void admitsUpToLimitThenRejects() {
+        assertTrue(filter.tryAdmit(6));
+        assertTrue(filter.tryAdmit(4));
+        assertFalse(filter.tryAdmit(1));
+    }
+
+    @Test
+    void idleFilterAdmitsOneOversizedRequest() {
+        assertTrue(filter.tryAdmit(100));
+        assertFalse(filter.tryAdmit(1));
+    }
+
+    @Test
+    void slowCompletionShrinksLimitMultiplicatively() {
+        assertTrue(filter.tryAdmit(2));
+        filter.complete(2, 1000);   // 500ms/단위 > 100ms
+        assertEquals(9.0, filter.currentLimit(), EPS);
+    }
+
+    @Test
+    void limitNeverDropsBelowFloor() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(filter.tryAdmit(1));
+            filter.complete(1, 1000);
+        }
+        assertEquals(2.0, filter.currentLimit(), EPS);
+    }
+
+    @Test
+    void fastCompletionGrowsOnlyWhenSaturated() {
+        assertTrue(filter.tryAdmit(1));
+        filter.complete(1, 0);
+        assertEquals(10.0, filter.currentLimit(), EPS);   // 상한의 80% 도 안 쓰고 있었음
+
+        assertTrue(filter.tryAdmit(9));
+        filter.complete(9, 0);
+        assertEquals(10.1, filter.currentLimit(), EPS);   // +1/limit
+    }
+
+    @Test
+    void limitNeverExceedsMax() {
+        ListAdmissionFilter f = filter(64, 64);
+        assertTrue(f.tryAdmit(60));
+        f.complete(60, 0);
+        assertEquals(64.0, f.currentLimit(), EPS);
+    }
+
+    private static ListAdmissionFilter filter(int initialLimit, int maxLimit) {
+        return new ListAdmissionFilter(new SimpleMeterRegistry(), 100, 12000, 2, 100, initialLimit, maxLimit);
+    }
+}
@@ -2,6 +2,7 @@
 
 import React, {
     createContext,
+    useCallback,
     useContext,
     useEffect,
     useMemo,
@@ -12,7 +13,7 @@ import React, {
 import { maskProfanity } from '@/lib/moderation/profanity';
 import { canSendNow, remaining, retryAfterMs } from '@/lib/moderation/rateLimit';
 import { Client, IMessage, StompSubscription } from '@stomp/stompjs';
-import { createChatClient } from '@/lib/ws/client'; // SockJS로 `${API_BASE}/ws-chat` 접속
+import { createChatClient } from '@/lib/ws/client'; // 네이티브 WebSocket `${API_BASE}/ws-stomp` 우선, 안 되면 SockJS `/ws-chat`
 
 // ===== 타입 =====
 export type ChatRole = 'user' | 'bot' | 'system';
@@ -26,10 +27,12 @@ export interface ChatMessage {
 }
 
 type Profile = { senderId: string; nickname: string };
+export type Presence = { online: number; sessions: number; nicknames: string[] };
 
 type ChatContextValue = {
     isOpen: boolean;
     connected: boolean;
+    presence: Presence | null;
     messages: ChatMessage[];
     profile: Profile | null;
 
@@ -40,6 +43,14 @@ type ChatContextValue = {
     send: (text: string) => void;
     clear: () => void;
     setNickname: (nickname: string) => void;
+    // 같은 STOMP 연결로 다른 토픽 구독 (글 통계 등). 재연결 시 자동 재구독, 반환 함수로 해제
+    subscribe: (destination: string, onMessage: (frame: IMessage) => void) => () => void;
+};
+
+type TopicSub = {
+    destination: string;
+    onMessage: (frame: IMessage) => void;
+    sub: StompSubscription | null;
 };
 
 // ===== 유틸/상수 =====
@@ -81,14 +92,17 @@ export const useChat = () => {
 export function ChatProvider({ children }: PropsWithChildren) {
     const [isOpen, setIsOpen] = useState(false);
     const [connected, setConnected] = useState(false);
+    const [presence, setPresence] = useState<Presence | null>(null);
     const [messages, setMessages] = useState<ChatMessage[]>([]);
     const [profileState, setProfileState] = useState<Profile | null>(null);
 
     const clientRef = useRef<Client | null>(null);
     const subRef = useRef<StompSubscription | null>(null);
+    const presenceSubRef = useRef<StompSubscription | null>(null);
     const messagesRef = useRef<ChatMessage[]>([]);
     const profileRef = useRef<Profile | null>(null);
     const activatedRef = useRef(false); // StrictMode 중복 방지
+    const topicSubsRef = useRef(new Set<TopicSub>());
 
     useEffect(() => {
         messagesRef.current = messages;
@@ -107,12 +121,18 @@ export function ChatProvider({ children }: PropsWithChildren) {
                 profileRef.current = p;
                 localStorage.setItem(PROFILE_KEY, JSON.stringify(p));
             }
-            setProfileState(profileRef.current);
         } catch {
-            // 무시
+            // localStorage 를 못 쓰면 이번 탭에서만 쓰는 프로필
+            if (!profileRef.current) {
+                const senderId = uuid();
+                profileRef.current = { senderId, nickname: makeNicknameDeterministic(senderId) };
+            }
         }
+        setProfileState(profileRef.current);
     }, []);
 
+    const profileLoaded = profileState !== null;
+
     const add = (m: ChatMessage) => setMessages((prev) => [...prev, m]);
 
     // 히스토리 로딩 (최근 N개)
@@ -184,14 +204,20 @@ export function ChatProvider({ children }: PropsWithChildren) {
         }
     };
 
-    // STOMP 연결 (시스템 메시지는 목록에 넣지 않음)
+    // STOMP 연결 (시스템 메시지는 목록에 넣지 않음). 프로필이 준비된 뒤에 연결해야 CONNECT 헤더에 실림
     useEffect(() => {
-        if (activatedRef.current) return;
+        if (!profileLoaded || activatedRef.current) return;
         activatedRef.current = true;
 
-        const client = createChatClient(API_BASE); // SockJS 클라이언트
+        const client = createChatClient(API_BASE); // /ws-stomp 우선, SockJS 폴백
         client.reconnectDelay = 5000;
         client.debug = () => {}; // 콘솔 스팸 방지(선택)
+        // 접속자 집계용 신원: 서버는 CONNECT 헤더를 세션에 붙여 두고, 채팅 토픽을 구독할 때 접속자로 셈.
+        // 연결(재연결)마다 현재 프로필로 → 바꾼 닉네임도 다음 연결부터 반영
+        client.beforeConnect = () => {
+            const me = profileRef.current;
+            client.connectHeaders = me ? { senderId: me.senderId, nickname: me.nickname } : {};
+        };
 
         client.onConnect = async () => {
             setConnected(true);
@@ -206,6 +232,25 @@ export function ChatProvider({ children }: PropsWithChildren) {
                 } catch {}
             }
             subRef.current = client.subscribe('/topic/public', onMessage);
+
+            // 3) 접속자 현황: 최초 1회 조회 후 구독 (서버가 주기적으로 바뀐 경우만 방송)
+            fetch(`${API_BASE}/api/chat/presence`, { cache: 'no-store' })
+                .then((r) => (r.ok ? r.json() : null))
+                .then((p) => p && setPresence(p as Presence))
+                .catch(() => {});
+            try {
+                presenceSubRef.current?.unsubscribe();
+            } catch {}
+            presenceSubRef.current = client.subscribe('/topic/presence', (f) => {
+                try {
+                    setPresence(JSON.parse(f.body) as Presence);
+                } catch {}
+            });
+
+            // 4) 화면들이 등록한 토픽 (연결 전에 등록됐거나 재연결된 경우)
+            topicSubsRef.current.forEach((t) => {
+                t.sub = client.subscribe(t.destination, t.onMessage);
+            });
         };
 
         client.onStompError = () => {
@@ -221,13 +266,14 @@ export function ChatProvider({ children }: PropsWithChildren) {
         return () => {
             try {
                 if (subRef.current) subRef.current.unsubscribe();
+                presenceSubRef.current?.unsubscribe();
             } catch {}
             try {
                 client.deactivate();
             } catch {}
             clientRef.current = null;
         };
-    }, []);
+    }, [profileLoaded]);
 
     // 전송 (서버가 저장 → 방송 → 수신으로 렌더)
     const send = (text: string) => {
@@ -262,6 +308,19 @@ export function ChatProvider({ children }: PropsWithChildren) {
         // add({ id, role: 'user', text: maskProfanity(t), createdAt: Date.now(), senderId: me.senderId, nickname: me.nickname });
     };
 
+    const subscribe = useCallback((destination: string, onMessage: (frame: IMessage) => void) => {
+        const t: TopicSub = { destination, onMessage, sub: null };
+        topicSubsRef.current.add(t);
+        const c = clientRef.current;
+        if (c && c.connected) t.sub = c.subscribe(destination, onMessage);
+        return () => {
+            topicSubsRef.current.delete(t);
+            try {
+                t.sub?.unsubscribe();
+            } catch {}
+        };
+    }, []);
+
     const clear = () => setMessages([]);
     const open = () => setIsOpen(true);
     const close = () => setIsOpen(false);
@@ -282,6 +341,7 @@ export function ChatProvider({ children }: PropsWithChildren) {
         () => ({
             isOpen,
             connected,
+            presence,
             messages,
             profile: profileState,
             open,
@@ -290,8 +350,9 @@ export function ChatProvider({ children }: PropsWithChildren) {
             send,
             clear,
             setNickname,
+            subscribe,
         }),
-        [isOpen, connected, messages, profileState],
+        [isOpen, connected, presence, messages, profileState, subscribe],
     );
 
     return <ChatContext.Provider value={value}>{children}</ChatContext.Provider>;
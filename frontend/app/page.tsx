@@ -3,6 +3,8 @@
 import { useEffect, useState } from 'react';
 import useSWRInfinite from 'swr/infinite'; // ✅ 변경: infinite 훅 import
 import HomeHero from '@/components/HomeHero';
+import { likeHeaders, rememberClientId } from '@/lib/like';
+import { useChat } from '@/app/chat/ChatProvider';
 
 const API = process.env.NEXT_PUBLIC_API_BASE || '';
 
@@ -54,6 +56,7 @@ function htmlToPlainPreview(html: string, max = 120): string {
 
 export default function Home() {
     const [tab, setTab] = useState<'best' | 'trending' | 'latest'>('latest');
+    const { subscribe } = useChat();
 
     // 좋아요 상태 (로컬)
     const [likedIds, setLikedIds] = useState<Set<number>>(new Set());
@@ -71,7 +74,62 @@ export default function Home() {
     };
 
     // ✅ useSWRInfinite 사용
-    const { data, size, setSize, isLoading, error, mutate } = useSWRInfinite<Post[]>(getKey, fetcher);
+    const { data, size, setSize, isLoading, error, mutate } = useSWRInfinite<Post[]>(getKey, fetcher, {
+        revalidateOnFocus: false,   // 포커스마다 전체 페이지 재조회 대신 아래 델타 동기화
+        revalidateFirstPage: false,
+    });
+
+    // 최신 탭: 가장 새 글 이후 카드만 받아서 앞에 붙임 (30초 주기 + 탭 복귀 시)
+    useEffect(() => {
+        if (tab !== 'latest') return;
+        const sync = async () => {
+            const newest = data?.[0]?.[0];
+            if (!newest) return;
+            try {
+                const qs = new URLSearchParams({ afterDate: newest.createDate, afterId: String(newest.id) });
+                const r = await fetch(`${API}/api/posts/feed/since?${qs}`, { cache: 'no-store', headers: { Accept: 'application/json' } });
+                if (!r.ok) return;
+                const fresh = (await r.json()) as Post[];
+                if (!fresh.length) return;
+                mutate(
+                    (cur) => {
+                        if (!cur || !cur.length) return cur;
+                        const ids = new Set(fresh.map((p) => p.id));
+                        return [[...fresh, ...cur[0].filter((p) => !ids.has(p.id))], ...cur.slice(1)];
+                    },
+                    { revalidate: false }
+                );
+            } catch {}
+        };
+        const timer = setInterval(sync, 30000);
+        window.addEventListener('focus', sync);
+        return () => {
+            clearInterval(timer);
+            window.removeEventListener('focus', sync);
+        };
+    }, [tab, data, mutate]);
+
+    // 카드 카운터(좋아요/조회수/댓글 수): 서버가 주기마다 바뀐 글만 push → 목록을 다시 불러오지 않고 병합
+    useEffect(
+        () =>
+            subscribe('/topic/posts/stats', (frame) => {
+                try {
+                    const changes = JSON.parse(frame.body) as Array<Pick<Post, 'id'> & Partial<Post>>;
+                    const byId = new Map(changes.map((c) => [c.id, c]));
+                    mutate(
+                        (cur) =>
+                            cur?.map((pagePosts) =>
+                                pagePosts.map((p) => {
+                                    const c = byId.get(p.id);
+                                    return c ? { ...p, ...c } : p;
+                                })
+                            ),
+                        { revalidate: false }
+                    );
+                } catch {}
+            }),
+        [subscribe, mutate]
+    );
 
     // ✅ 데이터 평탄화 (2차원 배열 [[page1], [page2]] -> 1차원 배열 [post, post...])
     const posts = data ? data.flat() : [];
@@ -86,24 +144,28 @@ export default function Home() {
         const wasLiked = likedIds.has(id);
         const url = wasLiked ? `${API}/api/posts/${id}/unlike` : `${API}/api/posts/${id}/like`;
         try {
-            const r = await fetch(url, { method: 'POST', headers: { Accept: 'application/json' } });
-            if (!r.ok) {
-                const msg = await r.text();
-                alert(msg || r.statusText);
-                return;
+            const r = await fetch(url, { method: 'POST', headers: likeHeaders() });
+            rememberClientId(r);
+            // 409: 서버 기준으로 이미 그 상태 → 카운트는 그대로 두고 로컬 표시만 맞춤
+            if (r.status !== 409) {
+                if (!r.ok) {
+                    const msg = await r.text();
+                    alert(msg || r.statusText);
+                    return;
+                }
+                const newCount: number = await r.json();
+
+                // ✅ Infinite 데이터 구조(2차원 배열)에 맞춰서 로컬 데이터 업데이트
+                mutate(
+                    (currentData) => {
+                        if (!currentData) return [];
+                        return currentData.map((pagePosts) =>
+                            pagePosts.map((p) => (p.id === id ? { ...p, likes: newCount } : p))
+                        );
+                    },
+                    { revalidate: false }
+                );
             }
-            const newCount: number = await r.json();
-
-            // ✅ Infinite 데이터 구조(2차원 배열)에 맞춰서 로컬 데이터 업데이트
-            mutate(
-                (currentData) => {
-                    if (!currentData) return [];
-                    return currentData.map((pagePosts) =>
-                        pagePosts.map((p) => (p.id === id ? { ...p, likes: newCount } : p))
-                    );
-                },
-                { revalidate: false }
-            );
 
             const next = new Set(likedIds);
             if (wasLiked) next.delete(id);
@@ -2,6 +2,8 @@
 
 import { useEffect, useState } from 'react';
 import { useParams } from 'next/navigation';
+import { useChat } from '@/app/chat/ChatProvider';
+import { likeHeaders, rememberClientId } from '@/lib/like';
 
 const API = process.env.NEXT_PUBLIC_API_BASE || '';
 
@@ -15,6 +17,7 @@ type Post = {
     updateYn?: 'Y' | 'N';
     views?: number;
     likes?: number;
+    commentCount?: number;
 };
 
 type Comment = {
@@ -23,9 +26,12 @@ type Comment = {
     nickname: string;
     content: string;
     createDate?: string;
+    cursor?: string; // 다음 페이지 커서 (createDate 전체 정밀도)
     updateYn?: 'Y' | 'N';
 };
 
+const COMMENT_PAGE_SIZE = 50;
+
 const getErrorMessageFromResponse = async (r: Response): Promise<string> => {
     if (r.status === 401) return '비밀번호가 올바르지 않습니다.';
     try {
@@ -59,6 +65,7 @@ function saveLikedSet(set: Set<number>) {
 
 export default function PostDetail() {
     const { id } = useParams<{ id: string }>();
+    const { subscribe } = useChat();
 
     const [post, setPost] = useState<Post | null>(null);
     const [loading, setLoading] = useState(true);
@@ -72,6 +79,7 @@ export default function PostDetail() {
 
     // 댓글 상태
     const [comments, setComments] = useState<Comment[]>([]);
+    const [hasMoreComments, setHasMoreComments] = useState(false);
     const [cNickname, setCNickname] = useState('');
     const [cPassword, setCPassword] = useState('');
     const [cContent, setCContent] = useState('');
@@ -88,7 +96,9 @@ export default function PostDetail() {
     useEffect(() => {
         (async () => {
             try {
-                const r = await fetch(`${API}/api/posts/${id}`, { headers: { Accept: 'application/json' } });
+                // 순방문자 집계도 좋아요와 같은 클라이언트 id 로 (없으면 서버가 발급해 응답 헤더로 줌)
+                const r = await fetch(`${API}/api/posts/${id}`, { headers: likeHeaders() });
+                rememberClientId(r);
                 if (!r.ok) throw new Error(await getErrorMessageFromResponse(r));
                 const data: Post = await r.json();
                 setPost(data);
@@ -111,11 +121,48 @@ export default function PostDetail() {
         // eslint-disable-next-line react-hooks/exhaustive-deps
     }, [id]);
 
+    // 실시간 카운터 (좋아요/조회수/댓글 수): 서버가 바뀐 필드만 주기적으로 push (채팅과 같은 STOMP 연결 사용)
+    useEffect(
+        () =>
+            subscribe(`/topic/posts/${id}/stats`, (frame) => {
+                try {
+                    const d = JSON.parse(frame.body) as Partial<Pick<Post, 'likes' | 'views' | 'commentCount'>>;
+                    setPost((prev) => (prev ? { ...prev, ...d } : prev));
+                } catch {}
+            }),
+        [id, subscribe]
+    );
+
+    // 댓글: 첫 페이지만 불러오고 나머지는 (createDate, id) 커서로 이어서
     const loadComments = async () => {
-        const r = await fetch(`${API}/api/posts/${id}/comments`, { headers: { Accept: 'application/json' } });
+        const r = await fetch(`${API}/api/posts/${id}/comments?size=${COMMENT_PAGE_SIZE}`, { headers: { Accept: 'application/json' } });
         if (!r.ok) throw new Error(await getErrorMessageFromResponse(r));
         const list: Comment[] = await r.json();
         setComments(list);
+        setHasMoreComments(list.length === COMMENT_PAGE_SIZE);
+    };
+
+    const loadMoreComments = async () => {
+        const last = comments[comments.length - 1];
+        if (!last) return;
+        try {
+            const qs = new URLSearchParams({
+                afterDate: last.cursor ?? last.createDate ?? '',
+                afterId: String(last.id),
+                size: String(COMMENT_PAGE_SIZE),
+            });
+            const r = await fetch(`${API}/api/posts/${id}/comments?${qs}`, { headers: { Accept: 'application/json' } });
+            if (!r.ok) throw new Error(await getErrorMessageFromResponse(r));
+            const list: Comment[] = await r.json();
+            // 그 사이 첫 페이지를 다시 불러왔을 수도 있어 id 로 한 번 더 거름
+            setComments((prev) => {
+                const seen = new Set(prev.map((c) => c.id));
+                return [...prev, ...list.filter((c) => !seen.has(c.id))];
+            });
+            setHasMoreComments(list.length === COMMENT_PAGE_SIZE);
+        } catch (e) {
+            alert(getErrorMessage(e));
+        }
     };
 
     // 좋아요 토글
@@ -127,10 +174,14 @@ export default function PostDetail() {
         const url = was ? `${API}/api/posts/${id}/unlike` : `${API}/api/posts/${id}/like`;
 
         try {
-            const r = await fetch(url, { method: 'POST', headers: { Accept: 'application/json' } });
-            if (!r.ok) throw new Error(await getErrorMessageFromResponse(r));
-            const newCount: number = await r.json();
-            setPost({ ...post, likes: newCount });
+            const r = await fetch(url, { method: 'POST', headers: likeHeaders() });
+            rememberClientId(r);
+            // 409: 서버 기준으로 이미 그 상태 → 로컬 표시만 맞춤
+            if (r.status !== 409) {
+                if (!r.ok) throw new Error(await getErrorMessageFromResponse(r));
+                const newCount: number = await r.json();
+                setPost({ ...post, likes: newCount });
+            }
 
             if (was) { set.delete(pid); setLiked(false); } else { set.add(pid); setLiked(true); }
             saveLikedSet(set);
@@ -195,6 +246,7 @@ export default function PostDetail() {
             // 닉네임 저장
             localStorage.setItem('im_nickname', cNickname);
             setCContent('');
+            if (post) setPost({ ...post, commentCount: (post.commentCount ?? 0) + 1 });
             await loadComments();
         } catch (e) {
             alert(getErrorMessage(e));
@@ -267,7 +319,7 @@ export default function PostDetail() {
                             <span>· {post.createDate}</span>
                             {post.updateYn === 'Y' && <span>· (수정됨)</span>}
                             <span className="ml-2">· 👁 {post.views ?? 0}</span>
-                            <span className="ml-2">· 💬 {comments.length}</span>
+                            <span className="ml-2">· 💬 {post.commentCount ?? comments.length}</span>
                             <button
                                 onClick={toggleLike}
                                 className={`ml-2 inline-flex items-center gap-1.5 rounded-full px-3 py-1.5 
@@ -408,6 +460,14 @@ export default function PostDetail() {
                             </li>
                         ))}
                     </ul>
+                    {hasMoreComments && (
+                        <button
+                            onClick={loadMoreComments}
+                            className="mt-4 w-full rounded border py-2 text-sm dark:border-neutral-700 dark:text-neutral-200"
+                        >
+                            댓글 더보기
+                        </button>
+                    )}
                 </section>
 
                 {/* -------- 모달들 (전부 다크모드 적용) -------- */}
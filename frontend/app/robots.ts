@@ -3,6 +3,9 @@ import type { MetadataRoute } from 'next';
 export default function robots(): MetadataRoute.Robots {
     return {
         rules: [{ userAgent: '*', allow: '/' }],
-        sitemap: 'https://life.binaryworld.kr/sitemap.xml',
+        sitemap: [
+            'https://life.binaryworld.kr/sitemap.xml',
+            'https://life.binaryworld.kr/sitemaps/index.xml',
+        ],
     };
 }
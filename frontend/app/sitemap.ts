@@ -1,30 +1,10 @@
 import type { MetadataRoute } from 'next';
 
 const BASE = 'https://life.binaryworld.kr';
-const API = process.env.NEXT_PUBLIC_API_BASE || '';
-
-type Post = {
-    id: number;
-    updateDate?: string;
-    createDate?: string;
-    deleteYn?: 'Y' | 'N';
-};
-
-async function fetchPosts(): Promise<Post[]> {
-    try {
-        const r = await fetch(`${API}/api/posts?page=0&size=500`, { next: { revalidate: 3600 } });
-        if (!r.ok) return [];
-        const arr = (await r.json()) as Post[];
-        return arr.filter((p) => p.deleteYn !== 'Y');
-    } catch {
-        return [];
-    }
-}
 
+// 정적 페이지만. 글 URL 은 백엔드 사이트맵 인덱스(/sitemaps/index.xml)에서 전부 제공
 export default async function sitemap(): Promise<MetadataRoute.Sitemap> {
-    const posts = await fetchPosts();
-
-    const staticPages: MetadataRoute.Sitemap = [
+    return [
         { url: `${BASE}/`, lastModified: new Date() },
         { url: `${BASE}/legal/privacy`, lastModified: new Date() },
         { url: `${BASE}/legal/terms`, lastModified: new Date() },
@@ -32,11 +12,4 @@ export default async function sitemap(): Promise<MetadataRoute.Sitemap> {
         { url: `${BASE}/legal/about`, lastModified: new Date() },
         { url: `${BASE}/legal/contact`, lastModified: new Date() },
     ];
-
-    const postPages: MetadataRoute.Sitemap = posts.map((p) => ({
-        url: `${BASE}/posts/${p.id}`,
-        lastModified: p.updateDate ? new Date(p.updateDate) : (p.createDate ? new Date(p.createDate) : new Date()),
-    }));
-
-    return [...staticPages, ...postPages];
 }
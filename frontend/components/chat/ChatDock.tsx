@@ -5,9 +5,11 @@ import ChatWindow from './ChatWindow';
 
 export default function ChatDock() {
 
-    const { isOpen, toggle, connected } = useChat();
+    const { isOpen, toggle, connected, presence } = useChat();
 
-    const statusText = connected ? '연결됨' : '오프라인';
+    const statusText = connected
+        ? presence ? `${presence.online}명 접속 중` : '연결됨'
+        : '오프라인';
     const statusDotClass = connected ? 'bg-emerald-500' : 'bg-rose-500';
     const statusPillClass = connected
         ? 'bg-emerald-100 text-emerald-700'
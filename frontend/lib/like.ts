@@ -10,4 +10,32 @@ export function getLikedSet(): Set<number> {
 
 export function saveLikedSet(set: Set<number>) {
     localStorage.setItem('liked_posts', JSON.stringify(Array.from(set)));
-}
\ No newline at end of file
+}
+
+// 서버 좋아요 중복 방지용 클라이언트 식별자. 서버가 서명해 X-Client-Id 응답 헤더로 내려준 값만 유효
+// (없거나 위조된 값이면 서버가 새로 발급하거나 IP 로 대신 식별)
+const CLIENT_ID_KEY = 'imangmo_client_id';
+
+export function getClientId(): string {
+    try {
+        return localStorage.getItem(CLIENT_ID_KEY) ?? '';
+    } catch {
+        return '';
+    }
+}
+
+/** 응답에 새로 발급된 클라이언트 id 가 있으면 저장 */
+export function rememberClientId(r: Response) {
+    const id = r.headers.get('X-Client-Id');
+    if (!id) return;
+    try {
+        localStorage.setItem(CLIENT_ID_KEY, id);
+    } catch {
+        // 저장 못 하면 다음 요청에서 다시 발급받음
+    }
+}
+
+export function likeHeaders(): Record<string, string> {
+    const id = getClientId();
+    return id ? { Accept: 'application/json', 'X-Client-Id': id } : { Accept: 'application/json' };
+}
@@ -1,9 +1,34 @@
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 
+// http(s)://host/path → ws(s)://host/path (baseUrl 이 비어 있으면 현재 origin)
+function toWsUrl(baseUrl: string, path: string): string {
+    const u = new URL(baseUrl || window.location.origin, window.location.href);
+    u.protocol = u.protocol === 'https:' ? 'wss:' : 'ws:';
+    return `${u.origin}${u.pathname.replace(/\/$/, '')}${path}`;
+}
+
+// 네이티브 WebSocket(/ws-stomp, permessage-deflate) 우선, 연속으로 연결이 안 열리면 SockJS(/ws-chat)로
+const MAX_NATIVE_FAILURES = 2;
+
 export function createChatClient(baseUrl: string): Client {
+    let nativeFailures = 0;
     return new Client({
-        webSocketFactory: () => new SockJS(`${baseUrl}/ws-chat`),
+        webSocketFactory: () => {
+            if (typeof WebSocket !== 'undefined' && nativeFailures < MAX_NATIVE_FAILURES) {
+                const ws = new WebSocket(toWsUrl(baseUrl, '/ws-stomp'), ['v12.stomp', 'v11.stomp', 'v10.stomp']);
+                let opened = false;
+                ws.addEventListener('open', () => {
+                    opened = true;
+                    nativeFailures = 0;
+                });
+                ws.addEventListener('close', () => {
+                    if (!opened) nativeFailures++;
+                });
+                return ws;
+            }
+            return new SockJS(`${baseUrl}/ws-chat`);
+        },
         reconnectDelay: 2000,
     });
-}
\ No newline at end of file
+}
@@ -1,7 +1,14 @@
 import type { NextConfig } from "next";
 
+const API = process.env.NEXT_PUBLIC_API_BASE || '';
+
 const nextConfig: NextConfig = {
-  /* config options here */
+  // 글 사이트맵은 백엔드가 커서로 생성/캐시 (5만 개 단위 분할 + 인덱스)
+  async rewrites() {
+    return API
+      ? [{ source: '/sitemaps/:path*', destination: `${API}/api/sitemap/:path*` }]
+      : [];
+  },
 };
 
 export default nextConfig;